@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.benchmarks;
+
+import org.wso2.rule.validator.generator.SpecGenerator;
+import org.wso2.rule.validator.ruleset.Format;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Documents and rulesets the benchmarks validate. Documents are generated from a fixed seed, so that every run
+ * measures the same input, and contain a share of violations like real API definitions do.
+ */
+public final class BenchmarkDocuments {
+
+    static final String RULESET_RESOURCE = "/rulesets/benchmark.ruleset";
+
+    // Large documents exceed the default code point limit of the YAML parser
+    static final int YAML_CODE_POINT_LIMIT = 256 * 1024 * 1024;
+
+    private static final long SEED = 20260101L;
+
+    /**
+     * Specifications of the generated documents.
+     */
+    public enum Specification {
+        OPENAPI(Format.OAS3_0),
+        ASYNCAPI(Format.AAS2);
+
+        private final Format format;
+
+        Specification(Format format) {
+            this.format = format;
+        }
+
+        public Format getFormat() {
+            return format;
+        }
+    }
+
+    /**
+     * Sizes of the generated documents, as the number of paths of an OpenAPI document or channels of an AsyncAPI
+     * document.
+     */
+    public enum Size {
+        SMALL(10),
+        MEDIUM(500),
+        LARGE(10000);
+
+        private final int count;
+
+        Size(int count) {
+            this.count = count;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+
+    private BenchmarkDocuments() {
+    }
+
+    /**
+     * Generates a YAML document.
+     *
+     * @param specification specification of the document
+     * @param size          size of the document
+     * @return document content
+     */
+    public static String createDocument(Specification specification, Size size) {
+        SpecGenerator generator = new SpecGenerator(SEED);
+        generator.setPathCount(size.getCount());
+        generator.setComponentCount(Math.max(size.getCount() / 2, 1));
+        generator.setSchemaDepth(1);
+        generator.setSchemaWidth(2);
+        return generator.generate(specification.getFormat(), SpecGenerator.Syntax.YAML);
+    }
+
+    /**
+     * Reads the ruleset the benchmarks validate documents with.
+     *
+     * @return ruleset content
+     */
+    public static String readRuleset() {
+        try (InputStream inputStream = BenchmarkDocuments.class.getResourceAsStream(RULESET_RESOURCE)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Ruleset not found: " + RULESET_RESOURCE);
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
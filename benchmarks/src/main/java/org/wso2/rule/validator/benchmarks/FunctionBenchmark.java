@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.rule.validator.InvalidRulesetException;
+import org.wso2.rule.validator.document.LintTarget;
+import org.wso2.rule.validator.functions.FunctionFactory;
+import org.wso2.rule.validator.functions.InvalidCoreFunctionException;
+import org.wso2.rule.validator.functions.LintFunction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of each core function on its own, so that a change in the time a single function takes is not hidden by
+ * the rest of the validation. Functions are created through the function factory with options like the ones rulesets
+ * use, and executed on a generated corpus of targets. Times are reported per target.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FunctionBenchmark {
+
+    private static final int TARGET_COUNT = 256;
+
+    @Param({"pattern", "casing", "schema", "alphabetical", "enumeration", "length", "xor", "truthy", "falsy",
+            "defined", "undefined"})
+    public String function;
+
+    @Param({"SHORT_STRINGS", "LONG_STRINGS", "UNICODE_STRINGS", "LARGE_MAPS", "DEEP_LISTS"})
+    public TargetCorpus.Kind corpus;
+
+    private LintFunction lintFunction;
+    private List<LintTarget> targets;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InvalidCoreFunctionException {
+        lintFunction = FunctionFactory.getFunction(function, createOptions(function));
+        targets = TargetCorpus.createTargets(corpus, TARGET_COUNT);
+    }
+
+    /**
+     * Executes the function on every target of the corpus.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TARGET_COUNT)
+    public void execute(Blackhole blackhole) throws InvalidRulesetException {
+        for (LintTarget target : targets) {
+            blackhole.consume(lintFunction.execute(target));
+        }
+    }
+
+    private static Map<String, Object> createOptions(String function) {
+        switch (function) {
+            case "pattern":
+                return Map.of("match", "^[a-z][a-zA-Z0-9]*$", "notMatch", "(?i)internal");
+            case "casing":
+                return Map.of("type", "camel");
+            case "schema":
+                // The schema function only validates objects and arrays, so the schema accepts every map and nested
+                // list of the corpus after checking all of their values. Strings are rejected before validation.
+                Map<String, Object> scalar = Map.of("type", List.of("string", "number", "boolean", "null"));
+                Map<String, Object> object = Map.of(
+                        "type", "object",
+                        "minProperties", 1,
+                        "propertyNames", Map.of("pattern", "^[A-Za-z][A-Za-z0-9_-]*$"),
+                        "additionalProperties", Map.of(
+                                "type", List.of("string", "number", "boolean", "null"),
+                                "maxLength", 256));
+                Map<String, Object> list = Map.of(
+                        "type", "array",
+                        "minItems", 1,
+                        "items", Map.of("anyOf", List.of(Map.of("$ref", "#/definitions/list"), scalar)));
+                return Map.of("schema", Map.of(
+                        "$schema", "http://json-schema.org/draft-07/schema#",
+                        "definitions", Map.of("list", list),
+                        "anyOf", List.of(object, Map.of("$ref", "#/definitions/list"))));
+            case "alphabetical":
+                return null;
+            case "enumeration":
+                List<Object> values = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                    values.add("value" + i);
+                }
+                values.add("getUser");
+                values.add("listOrders");
+                return Map.of("values", values);
+            case "length":
+                return Map.of("min", 1, "max", 64);
+            case "xor":
+                return Map.of("properties", List.of("name0", "id1"));
+            default:
+                // truthy, falsy, defined and undefined do not take options
+                return null;
+        }
+    }
+}
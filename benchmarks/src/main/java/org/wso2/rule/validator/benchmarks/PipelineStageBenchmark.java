@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.rule.validator.InvalidRulesetException;
+import org.wso2.rule.validator.document.Document;
+import org.wso2.rule.validator.functions.LintResult;
+import org.wso2.rule.validator.ruleset.Ruleset;
+import org.wso2.rule.validator.utils.Util;
+import org.wso2.rule.validator.validator.DocumentValidationResult;
+import org.wso2.rule.validator.validator.DocumentValidationResultWriter;
+import org.wso2.rule.validator.validator.ValidationOptions;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the stages of document validation: loading the YAML content, building the document, linting it and
+ * writing the violations as JSON.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineStageBenchmark {
+
+    @Param({"OPENAPI", "ASYNCAPI"})
+    public BenchmarkDocuments.Specification specification;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public BenchmarkDocuments.Size size;
+
+    private String documentContent;
+    private ValidationOptions validationOptions;
+    private Document document;
+    private Ruleset ruleset;
+    private List<DocumentValidationResult> violations;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InvalidRulesetException {
+        documentContent = BenchmarkDocuments.createDocument(specification, size);
+        validationOptions = ValidationOptions.defaults();
+        validationOptions.setYamlCodePointLimit(BenchmarkDocuments.YAML_CODE_POINT_LIMIT);
+        document = new Document(documentContent, validationOptions);
+        ruleset = new Ruleset((Map<String, Object>) Util.loadYaml(BenchmarkDocuments.readRuleset(),
+                validationOptions));
+        if (!ruleset.isInitialized()) {
+            throw new InvalidRulesetException(ruleset.getInitializationErrorMessage());
+        }
+
+        violations = new ArrayList<>();
+        for (LintResult result : document.lint(ruleset)) {
+            violations.add(new DocumentValidationResult(result.path, result.message, result.rule.name,
+                    result.rule.severity));
+        }
+    }
+
+    /**
+     * Loads the YAML content of the document.
+     */
+    @Benchmark
+    public Object loadYaml() {
+        return Util.loadYaml(documentContent, validationOptions);
+    }
+
+    /**
+     * Loads the document and builds the tree it is linted on.
+     */
+    @Benchmark
+    public Document createDocument() {
+        return new Document(documentContent, validationOptions);
+    }
+
+    /**
+     * Lints a document that has already been built.
+     */
+    @Benchmark
+    public List<LintResult> lint() throws InvalidRulesetException {
+        return document.lint(ruleset);
+    }
+
+    /**
+     * Writes the violations of the document as JSON.
+     */
+    @Benchmark
+    public String writeResults() throws IOException {
+        StringWriter output = new StringWriter();
+        try (DocumentValidationResultWriter writer = new DocumentValidationResultWriter(output)) {
+            for (DocumentValidationResult violation : violations) {
+                writer.accept(violation);
+            }
+        }
+        return output.toString();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.rule.validator.InvalidContentTypeException;
+import org.wso2.rule.validator.InvalidRulesetException;
+import org.wso2.rule.validator.validator.CompiledRuleset;
+import org.wso2.rule.validator.validator.RulesetCache;
+import org.wso2.rule.validator.validator.ValidationOptions;
+import org.wso2.rule.validator.validator.Validator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of ruleset validation and compilation, with the ruleset cache enabled or disabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RulesetBenchmark {
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    private String ruleset;
+    private ValidationOptions validationOptions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ruleset = BenchmarkDocuments.readRuleset();
+        validationOptions = ValidationOptions.defaults();
+        if (!cached) {
+            Validator.getRulesetCache().setLimits(0, 0);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Validator.getRulesetCache().setLimits(RulesetCache.DEFAULT_MAXIMUM_ENTRIES,
+                RulesetCache.DEFAULT_MAXIMUM_SIZE_IN_BYTES);
+    }
+
+    /**
+     * Validates the ruleset and returns the validation result as JSON.
+     */
+    @Benchmark
+    public String validateRuleset() throws InvalidContentTypeException {
+        return Validator.validateRuleset(ruleset, validationOptions);
+    }
+
+    /**
+     * Validates and builds the ruleset so that it can be used to validate documents.
+     */
+    @Benchmark
+    public CompiledRuleset compileRuleset() throws InvalidRulesetException, InvalidContentTypeException {
+        return Validator.compileRuleset(ruleset, validationOptions);
+    }
+}
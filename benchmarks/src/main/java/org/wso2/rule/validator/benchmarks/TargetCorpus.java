@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.benchmarks;
+
+import org.wso2.rule.validator.document.LintTarget;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates lint targets with values like the ones found in API definitions. Values are generated from a fixed seed,
+ * so that every run measures the same targets, and have the types the document tree is built with.
+ */
+public final class TargetCorpus {
+
+    private static final long SEED = 20260101L;
+
+    private static final String[] WORDS = {
+            "user", "order", "item", "account", "payment", "status", "id", "name", "created", "updated", "list", "get",
+            "create", "delete", "resource", "event", "token", "limit", "offset", "version"
+    };
+    private static final String[] UNICODE_WORDS = {
+            "caf\u00e9", "na\u00efve", "stra\u00dfe", "\u65e5\u672c\u8a9e", "\u0434\u0430\u043d\u043d\u044b\u0435",
+            "\u05e9\u05dc\u05d5\u05dd", "\u03b5\u03bb\u03bb\u03b7\u03bd\u03b9\u03ba\u03ac", "emoji\ud83d\ude80",
+            "\ud55c\uad6d\uc5b4", "\u00fcn\u00efc\u00f6d\u00e9"
+    };
+
+    /**
+     * Kinds of target values.
+     */
+    public enum Kind {
+        // Short identifiers in mixed casings, like operation ids and property names
+        SHORT_STRINGS,
+        // Descriptions of a few kilobytes
+        LONG_STRINGS,
+        // Identifiers and descriptions with characters outside of ASCII
+        UNICODE_STRINGS,
+        // Objects with hundreds of properties of mixed types
+        LARGE_MAPS,
+        // Lists nested several levels deep
+        DEEP_LISTS
+    }
+
+    private TargetCorpus() {
+    }
+
+    /**
+     * Generates lint targets.
+     *
+     * @param kind  kind of the target values
+     * @param count number of targets
+     * @return lint targets
+     */
+    public static List<LintTarget> createTargets(Kind kind, int count) {
+        Random random = new Random(SEED + kind.ordinal());
+        List<LintTarget> targets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<String> path = List.of("paths", "/resources-" + i, "get", "operationId");
+            targets.add(new LintTarget(path, createValue(kind, random)));
+        }
+        return targets;
+    }
+
+    private static Object createValue(Kind kind, Random random) {
+        switch (kind) {
+            case SHORT_STRINGS:
+                return createIdentifier(random, WORDS);
+            case LONG_STRINGS:
+                return createText(random, WORDS, 1024 + random.nextInt(3072));
+            case UNICODE_STRINGS:
+                return random.nextBoolean() ? createIdentifier(random, UNICODE_WORDS) :
+                        createText(random, UNICODE_WORDS, 256 + random.nextInt(256));
+            case LARGE_MAPS:
+                return createMap(random, 200 + random.nextInt(100));
+            case DEEP_LISTS:
+                return createList(random, 6 + random.nextInt(3));
+            default:
+                throw new IllegalArgumentException("Unknown kind: " + kind);
+        }
+    }
+
+    private static String createIdentifier(Random random, String[] words) {
+        int wordCount = 1 + random.nextInt(4);
+        int casing = random.nextInt(4);
+        StringBuilder identifier = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            String word = words[random.nextInt(words.length)];
+            if (i > 0 && casing == 1) {
+                identifier.append('_');
+            } else if (i > 0 && casing == 2) {
+                identifier.append('-');
+            }
+            if ((i > 0 && casing == 0) || casing == 3) {
+                identifier.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+            } else {
+                identifier.append(word);
+            }
+        }
+        if (random.nextInt(5) == 0) {
+            identifier.append(random.nextInt(100));
+        }
+        return identifier.toString();
+    }
+
+    private static String createText(Random random, String[] words, int length) {
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length) {
+            text.append(words[random.nextInt(words.length)]).append(random.nextInt(10) == 0 ? ". " : " ");
+        }
+        return text.toString();
+    }
+
+    private static Map<String, Object> createMap(Random random, int size) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(createIdentifier(random, WORDS) + i, createScalar(random));
+        }
+        return map;
+    }
+
+    private static List<Object> createList(Random random, int depth) {
+        int size = 2 + random.nextInt(3);
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(depth > 1 && i == 0 ? createList(random, depth - 1) : createScalar(random));
+        }
+        return list;
+    }
+
+    private static Object createScalar(Random random) {
+        switch (random.nextInt(5)) {
+            case 0:
+                return random.nextInt(1000);
+            case 1:
+                return random.nextDouble() * 1000;
+            case 2:
+                return random.nextBoolean();
+            case 3:
+                return null;
+            default:
+                return createIdentifier(random, WORDS);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.rule.validator.InvalidContentTypeException;
+import org.wso2.rule.validator.InvalidRulesetException;
+import org.wso2.rule.validator.validator.CompiledRuleset;
+import org.wso2.rule.validator.validator.ValidationOptions;
+import org.wso2.rule.validator.validator.Validator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the whole document validation, from the document and ruleset content to the JSON result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    @Param({"OPENAPI", "ASYNCAPI"})
+    public BenchmarkDocuments.Specification specification;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public BenchmarkDocuments.Size size;
+
+    private String document;
+    private String ruleset;
+    private ValidationOptions validationOptions;
+    private CompiledRuleset compiledRuleset;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InvalidRulesetException, InvalidContentTypeException {
+        document = BenchmarkDocuments.createDocument(specification, size);
+        ruleset = BenchmarkDocuments.readRuleset();
+        validationOptions = ValidationOptions.defaults();
+        validationOptions.setYamlCodePointLimit(BenchmarkDocuments.YAML_CODE_POINT_LIMIT);
+        compiledRuleset = Validator.compileRuleset(ruleset, validationOptions);
+    }
+
+    /**
+     * Validates a document with the ruleset content, which is looked up in the ruleset cache.
+     */
+    @Benchmark
+    public String validateDocument() throws InvalidRulesetException, InvalidContentTypeException {
+        return Validator.validateDocument(document, ruleset, validationOptions);
+    }
+
+    /**
+     * Validates a document with a ruleset compiled beforehand.
+     */
+    @Benchmark
+    public String validateDocumentWithCompiledRuleset() throws InvalidRulesetException, InvalidContentTypeException {
+        return Validator.validateDocument(document, compiledRuleset, validationOptions);
+    }
+}
@@ -26,6 +26,9 @@ public class Constants {
     public static final String SWAGGER_KEY = "swagger";
     public static final String OAS_3_1_VERSION = "3.1";
     public static final String OAS_3_0_VERSION = "3.0";
+    public static final String ASYNCAPI_KEY = "asyncapi";
+    public static final String AAS_2_VERSION = "2";
+    public static final String AAS_3_VERSION = "3";
     public static final String ALIAS_PREFIX = "#";
     public static final String JSON_PATH_ROOT = "$";
 
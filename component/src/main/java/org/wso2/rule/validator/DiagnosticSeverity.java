@@ -27,6 +27,17 @@ public enum DiagnosticSeverity {
     HINT,
     OFF;
 
+    /**
+     * Returns whether results of this severity are reported when only results at or above a minimum severity are
+     * reported. Results of rules that are turned off are never reported.
+     *
+     * @param minimumSeverity lowest severity to report, or null to report every severity
+     * @return true if results of this severity are reported
+     */
+    public boolean isAtLeast(DiagnosticSeverity minimumSeverity) {
+        return this != OFF && (minimumSeverity == null || this.ordinal() <= minimumSeverity.ordinal());
+    }
+
     public static String getSeverityString(DiagnosticSeverity severity) {
         switch (severity) {
             case ERROR:
@@ -17,30 +17,42 @@
  */
 package org.wso2.rule.validator.document;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.EvaluationListener;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.PathNotFoundException;
 import org.wso2.rule.validator.Constants;
+import org.wso2.rule.validator.DiagnosticSeverity;
 import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.functions.FunctionResult;
 import org.wso2.rule.validator.functions.LintResult;
+import org.wso2.rule.validator.metrics.MetricsRegistry;
+import org.wso2.rule.validator.metrics.ValidatorMetrics;
 import org.wso2.rule.validator.ruleset.Format;
 import org.wso2.rule.validator.ruleset.Rule;
 import org.wso2.rule.validator.ruleset.RuleThen;
 import org.wso2.rule.validator.ruleset.Ruleset;
-import org.wso2.rule.validator.ruleset.RulesetAliasDefinition;
 import org.wso2.rule.validator.utils.Util;
 import org.wso2.rule.validator.validator.MessagePlaceholder;
 import org.wso2.rule.validator.validator.ValidationOptions;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -49,9 +61,18 @@ import java.util.regex.Pattern;
  */
 public class Document {
 
-    private String documentString;
+    static final Configuration PATH_LIST_CONFIGURATION = Configuration.builder()
+            .options(Option.AS_PATH_LIST).build();
+    private static final Pattern JSON_PATH_GROUPING_PATTERN = Pattern.compile(Constants.JSON_PATH_GROUPING_REGEX);
+
+    // Number of matches of a rule linted together when rules are linted in parallel
+    private static final int PARALLEL_LINT_CHUNK_SIZE = 64;
+
     private Object document = null;
     List<Format> formats;
+    private final ValidationOptions validationOptions;
+    private final boolean collectPassedResults;
+    private volatile LintProfile lintProfile;
 
     /**
      * Creates a document using default validation options.
@@ -71,22 +92,23 @@ public class Document {
      * @param validationOptions validation options
      */
     public Document(String documentString, ValidationOptions validationOptions) {
+        this.validationOptions = validationOptions;
+        this.collectPassedResults = validationOptions != null && validationOptions.isCollectPassedResults();
+        long start = System.nanoTime();
         Object yamlData = Util.loadYaml(documentString, validationOptions);
 
         if (yamlData == null) {
             return;
         }
 
-        Gson gson = new GsonBuilder().setPrettyPrinting().serializeNulls().create();
-        this.documentString = gson.toJson(yamlData);
-
-        this.document = JsonPath.parse(this.documentString).json();
+        this.document = new DocumentTreeBuilder().build(yamlData);
+        ValidatorMetrics.getRegistry().timer(ValidatorMetrics.DOCUMENT_PARSE_TIME).record(System.nanoTime() - start);
         resolveReferences();
 
         // Read format
         if (this.document instanceof Map) {
             this.formats = new ArrayList<>();
-            Map<String, Object> documentMap = (Map<String, Object>) yamlData;
+            Map<String, Object> documentMap = (Map<String, Object>) this.document;
             if (documentMap.containsKey(Constants.OPENAPI_KEY)) {
                 String oasVersion = (String) documentMap.get(Constants.OPENAPI_KEY);
                 if (oasVersion.startsWith(Constants.OAS_3_1_VERSION)) {
@@ -102,6 +124,29 @@ public class Document {
                 }
             } else if (documentMap.containsKey(Constants.SWAGGER_KEY)) {
                 this.formats.add(Format.OAS2);
+            } else if (documentMap.containsKey(Constants.ASYNCAPI_KEY)) {
+                addAsyncApiFormats(String.valueOf(documentMap.get(Constants.ASYNCAPI_KEY)));
+            }
+        }
+    }
+
+    /**
+     * Adds the major version format of an AsyncAPI document, and the minor version format when there is one for the
+     * version of the document. The version may also be read as a number, such as {@code asyncapi: 3}.
+     */
+    private void addAsyncApiFormats(String aasVersion) {
+        String[] versionParts = aasVersion.split("\\.");
+        if (versionParts[0].equals(Constants.AAS_2_VERSION)) {
+            this.formats.add(Format.AAS2);
+        } else if (versionParts[0].equals(Constants.AAS_3_VERSION)) {
+            this.formats.add(Format.AAS3);
+        } else {
+            return;
+        }
+        if (versionParts.length > 1) {
+            Format minorVersionFormat = Format.getFormat("aas" + versionParts[0] + "_" + versionParts[1]);
+            if (minorVersionFormat != null) {
+                this.formats.add(minorVersionFormat);
             }
         }
     }
@@ -110,60 +155,186 @@ public class Document {
         return this.document == null;
     }
 
+    /**
+     * Returns the profile of the last completed lint of the document, when the validation options are set to collect
+     * lint profiles.
+     *
+     * @return lint profile, or {@code null} if lint profiles are not collected or the document has not been linted
+     */
+    public LintProfile getLintProfile() {
+        return lintProfile;
+    }
+
+    /**
+     * Lints the document with the rules of a ruleset that apply to it. Only failed checks are returned, unless the
+     * validation options are set to collect passed results as well.
+     *
+     * @param ruleset ruleset to lint the document with
+     * @return lint results, in the order of the rules and of their matches
+     * @throws InvalidRulesetException if a rule of the ruleset cannot be applied
+     */
     public List<LintResult> lint(Ruleset ruleset) throws InvalidRulesetException {
+        List<LintResult> results = new ArrayList<>();
+        lint(ruleset, results::add);
+        return results;
+    }
+
+    /**
+     * Lints the document with the rules of a ruleset that apply to it, and passes each result to the consumer as soon
+     * as it is available, so that results do not have to be held in memory. When the parallelism of the validation
+     * options is more than 1, the matches of the rules are linted by parallel tasks, which stop linting before this
+     * method returns. Either way, the consumer is only called from the calling thread, in the order of the rules and
+     * of their matches. Only failed checks are passed to the consumer, unless the validation options are set to
+     * collect passed results as well. Once a violation limit of the validation options is reached, the remaining
+     * matches of the rule, or the remaining rules, are not linted.
+     * When the validation options are set to collect lint profiles, the profile of the lint is available from
+     * {@link #getLintProfile()} once this method returns.
+     *
+     * @param ruleset  ruleset to lint the document with
+     * @param consumer consumer of the lint results
+     * @throws InvalidRulesetException if a rule of the ruleset cannot be applied
+     */
+    public void lint(Ruleset ruleset, Consumer<LintResult> consumer) throws InvalidRulesetException {
+        long start = System.nanoTime();
+        // Every given path of the applicable rules is matched in a single walk of the document
+        TraversalPlan plan = ruleset.getTraversalPlan(this.formats);
+        List<Rule> rules = plan.getRules();
+        LintProfile profile = validationOptions != null && validationOptions.isCollectLintProfile() ?
+                new LintProfile(rules) : null;
+        List<List<PathMatch>> matches = plan.evaluate(this.document, profile);
+        // Results are only counted for metrics when a metrics registry is set
+        ResultCounts resultCounts = ValidatorMetrics.isEnabled() ? new ResultCounts(consumer) : null;
+        Consumer<LintResult> resultConsumer = resultCounts != null ? resultCounts : consumer;
 
-        for (Rule rule : ruleset.rules.values()) {
-            // resolve given aliases
-            List<String> resolvedGiven = new ArrayList<>();
-            for (String given : rule.given) {
-                if (given.startsWith(Constants.ALIAS_PREFIX)) {
-                    List<Format> aliasFormats;
-                    if (this.formats != null && !this.formats.isEmpty()) {
-                        aliasFormats = this.formats;
-                    } else {
-                        aliasFormats = null;
+        int parallelism = validationOptions != null ? validationOptions.getParallelism() : 1;
+        if (parallelism > 1) {
+            lintInParallel(rules, matches, parallelism, profile, resultConsumer);
+        } else {
+            ViolationLimits limits = new ViolationLimits(validationOptions);
+            for (int i = 0; i < rules.size() && !limits.isStopped(); i++) {
+                limits.startRule();
+                RuleProfile ruleProfile = profile != null ? profile.getRuleProfile(i) : null;
+                for (PathMatch match : matches.get(i)) {
+                    lintNode(match.path, match.node, rules.get(i), limits, ruleProfile, resultConsumer);
+                    if (limits.isRuleComplete()) {
+                        break;
                     }
-                    resolvedGiven.addAll(RulesetAliasDefinition
-                            .resolveAliasGiven(given, ruleset.aliases, aliasFormats));
-                } else {
-                    resolvedGiven.add(given);
                 }
             }
-            rule.given = resolvedGiven;
         }
+        long lintTime = System.nanoTime() - start;
+        if (profile != null) {
+            profile.setLintTimeNanos(lintTime);
+        }
+        this.lintProfile = profile;
 
-        List<LintResult> results = new ArrayList<>();
+        MetricsRegistry metrics = ValidatorMetrics.getRegistry();
+        metrics.counter(ValidatorMetrics.DOCUMENTS_LINTED).increment();
+        metrics.timer(ValidatorMetrics.DOCUMENT_LINT_TIME).record(lintTime);
+        if (resultCounts != null) {
+            resultCounts.report(metrics);
+        }
+    }
 
-        for (Rule rule : ruleset.rules.values()) {
-            if (!matchFormat(ruleset, rule)) {
-                continue;
-            }
-            for (String given : rule.given) {
-                try {
-                    Configuration config = Configuration.builder().options(Option.AS_PATH_LIST).build();
-                    List<String> paths = JsonPath.using(config).parse(this.document).read(given);
-                    for (String path : paths) {
-                        results.addAll(lintNode(path, rule));
-                    }
-                    // log("Json Path resolved: " + given);
-                } catch (PathNotFoundException e) {
-                    // log("Json Path not found: " + given);
-                } catch (InvalidPathException e) {
-                    // log("Unsupported Json Path: " + given);
-                }
+    private void lintInParallel(List<Rule> rules, List<List<PathMatch>> matches, int parallelism, LintProfile profile,
+            Consumer<LintResult> consumer) throws InvalidRulesetException {
+        // Split the matches of every rule into chunks, so that rules with many matches are also spread across tasks
+        AtomicBoolean lintCancelled = new AtomicBoolean();
+        List<LintChunk> chunks = new ArrayList<>();
+        for (int i = 0; i < rules.size(); i++) {
+            List<PathMatch> ruleMatches = matches.get(i);
+            for (int start = 0; start < ruleMatches.size(); start += PARALLEL_LINT_CHUNK_SIZE) {
+                int end = Math.min(start + PARALLEL_LINT_CHUNK_SIZE, ruleMatches.size());
+                chunks.add(new LintChunk(i, rules.get(i), ruleMatches.subList(start, end), profile != null,
+                        lintCancelled));
             }
         }
 
-        return results;
+        AtomicInteger nextChunk = new AtomicInteger();
+        Runnable task = () -> {
+            int index;
+            while ((index = nextChunk.getAndIncrement()) < chunks.size()) {
+                chunks.get(index).lint();
+            }
+        };
+
+        Executor executor = validationOptions.getExecutor() != null ? validationOptions.getExecutor() :
+                ForkJoinPool.commonPool();
+        int taskCount = Math.min(parallelism, chunks.size());
+        for (int i = 1; i < taskCount; i++) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // The chunks are linted by the tasks that were accepted and by the calling thread
+                break;
+            }
+        }
+        try {
+            reportChunks(chunks, nextChunk, profile, consumer);
+        } finally {
+            // Stop the tasks from taking more chunks, and wait for the chunks they have taken, so that no rule
+            // functions are executed once the lint returns, whether it is complete, stopped by a limit or failed
+            lintCancelled.set(true);
+            int takenChunks = Math.min(nextChunk.getAndSet(chunks.size()), chunks.size());
+            for (int i = 0; i < takenChunks; i++) {
+                chunks.get(i).awaitLinted();
+            }
+        }
     }
 
-    private boolean matchFormat(Ruleset ruleset, Rule rule) {
-        if (!rule.formats.isEmpty()) {
-            return  Format.matchFormat(rule.formats, this.formats);
-        } else if (!ruleset.formats.isEmpty()) {
-            return Format.matchFormat(ruleset.formats, this.formats);
-        } else {
-            return true;
+    /**
+     * Reports the results of the chunks in order, as they are linted.
+     */
+    private void reportChunks(List<LintChunk> chunks, AtomicInteger nextChunk, LintProfile profile,
+            Consumer<LintResult> consumer) throws InvalidRulesetException {
+        // Limits are applied to the results in the order they are reported, so that the same results are reported as
+        // with sequential linting. Chunks of a rule past its limit are cancelled, so that tasks skip them.
+        ViolationLimits limits = new ViolationLimits(validationOptions);
+        int ruleIndex = -1;
+        for (int i = 0; i < chunks.size() && !limits.isStopped(); i++) {
+            LintChunk chunk = chunks.get(i);
+            if (chunk.ruleIndex != ruleIndex) {
+                ruleIndex = chunk.ruleIndex;
+                limits.startRule();
+            }
+            if (limits.isRuleComplete()) {
+                continue;
+            }
+            // The calling thread takes the chunks up to the next one to report as well, and then only waits for the
+            // chunks other tasks are linting, so tasks that the executor has not started do not delay the result
+            int index;
+            while (nextChunk.get() <= i && (index = nextChunk.getAndIncrement()) < chunks.size()) {
+                chunks.get(index).lint();
+            }
+            chunk.awaitLinted();
+            if (chunk.error instanceof InvalidRulesetException) {
+                throw (InvalidRulesetException) chunk.error;
+            } else if (chunk.error instanceof RuntimeException) {
+                throw (RuntimeException) chunk.error;
+            } else if (chunk.error instanceof Error) {
+                throw (Error) chunk.error;
+            }
+            RuleProfile ruleProfile = null;
+            if (profile != null) {
+                // Violations are counted as they are reported, since a chunk may find more than the limits allow
+                ruleProfile = profile.getRuleProfile(ruleIndex);
+                ruleProfile.addFunctionExecutions(chunk.profile);
+            }
+            for (LintResult result : chunk.results) {
+                if (limits.isRuleComplete()) {
+                    break;
+                }
+                limits.count(result);
+                if (ruleProfile != null && !result.passed) {
+                    ruleProfile.recordViolation();
+                }
+                consumer.accept(result);
+            }
+            if (limits.isRuleComplete() && !limits.isStopped()) {
+                for (int j = i + 1; j < chunks.size() && chunks.get(j).ruleIndex == ruleIndex; j++) {
+                    chunks.get(j).cancelled = true;
+                }
+            }
         }
     }
 
@@ -178,22 +349,39 @@ public class Document {
          */
     }
 
-    private List<LintResult> lintNode(String path, Rule rule) throws InvalidRulesetException {
-        List<LintResult> results = new ArrayList<>();
-        Object node;
-        try {
-            node = JsonPath.read(this.document, path);
-        } catch (PathNotFoundException e) {
-            return results;
-        }
+    /**
+     * Lints a node matched by a rule, and records the function executions and violations in the rule profile when it
+     * is not {@code null}.
+     */
+    private void lintNode(List<String> path, Object node, Rule rule, ViolationLimits limits, RuleProfile profile,
+            Consumer<LintResult> consumer) throws InvalidRulesetException {
         for (RuleThen then : rule.then) {
             List<LintTarget> lintTargets = getLintTargets(node, then);
             for (LintTarget target : lintTargets) {
-                List<String> parentPath = splitJsonPath(path);
-                parentPath.addAll(target.jsonPath);
-                String targetPath = LintTarget.getPathString(parentPath);
-                target.jsonPath = parentPath;
-                FunctionResult result = then.lintFunction.execute(target);
+                if (limits.isRuleComplete()) {
+                    return;
+                }
+                if (target.jsonPath.isEmpty()) {
+                    target.jsonPath = path;
+                } else {
+                    List<String> parentPath = new ArrayList<>(path.size() + target.jsonPath.size());
+                    parentPath.addAll(path);
+                    parentPath.addAll(target.jsonPath);
+                    target.jsonPath = parentPath;
+                }
+                FunctionResult result;
+                if (profile != null) {
+                    long start = System.nanoTime();
+                    result = then.lintFunction.execute(target);
+                    profile.recordFunctionExecution(System.nanoTime() - start);
+                } else {
+                    result = then.lintFunction.execute(target);
+                }
+                if (result.passed && !collectPassedResults) {
+                    // Most checks pass, so the path and message are only built for the results that are reported
+                    continue;
+                }
+                String targetPath = LintTarget.getPathString(target.jsonPath);
                 String finalMessage;
                 if (rule.message != null) {
                     MessagePlaceholder placeholder = new MessagePlaceholder(
@@ -203,10 +391,178 @@ public class Document {
                 } else {
                     finalMessage = result.message;
                 }
-                results.add(new LintResult(result.passed, targetPath, rule, finalMessage));
+                LintResult lintResult = new LintResult(result.passed, targetPath, rule, finalMessage);
+                limits.count(lintResult);
+                if (profile != null && !lintResult.passed) {
+                    profile.recordViolation();
+                }
+                consumer.accept(lintResult);
             }
         }
-        return results;
+    }
+
+    /**
+     * Matches of a rule linted together by one of the parallel lint tasks.
+     */
+    private final class LintChunk {
+        private final int ruleIndex;
+        private final Rule rule;
+        private final List<PathMatch> matches;
+        private final List<LintResult> results = new ArrayList<>();
+        private final CountDownLatch linted = new CountDownLatch(1);
+        // Function executions of the chunk, added to the rule profile when the results of the chunk are reported
+        private final RuleProfile profile;
+        // Set when the rule of the chunk has reported as many violations as its limit allows
+        private volatile boolean cancelled;
+        // Set when the whole lint is complete, stopped or failed
+        private final AtomicBoolean lintCancelled;
+        private Throwable error;
+
+        private LintChunk(int ruleIndex, Rule rule, List<PathMatch> matches, boolean profiled,
+                AtomicBoolean lintCancelled) {
+            this.ruleIndex = ruleIndex;
+            this.rule = rule;
+            this.matches = matches;
+            this.profile = profiled ? new RuleProfile(rule.name, rule.severity) : null;
+            this.lintCancelled = lintCancelled;
+        }
+
+        private void lint() {
+            // A chunk never needs to report more results than the limits allow on their own. Cancellation is checked
+            // between the targets, since a single match can have many targets.
+            ViolationLimits limits = new ViolationLimits(validationOptions,
+                    () -> cancelled || lintCancelled.get());
+            try {
+                for (PathMatch match : matches) {
+                    if (limits.isRuleComplete()) {
+                        break;
+                    }
+                    lintNode(match.path, match.node, rule, limits, profile, results::add);
+                }
+            } catch (InvalidRulesetException | RuntimeException | Error e) {
+                error = e;
+            } finally {
+                linted.countDown();
+            }
+        }
+
+        private void awaitLinted() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    linted.await();
+                    break;
+                } catch (InterruptedException e) {
+                    // Chunks that have been taken are always completed, so the wait is short
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Counts the results of each rule passed to a consumer, to report them as metrics once the document is linted.
+     */
+    private static final class ResultCounts implements Consumer<LintResult> {
+        private final Consumer<LintResult> consumer;
+        // Failed and passed results of each rule
+        private final Map<Rule, long[]> ruleCounts = new IdentityHashMap<>();
+
+        private ResultCounts(Consumer<LintResult> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(LintResult result) {
+            ruleCounts.computeIfAbsent(result.rule, rule -> new long[2])[result.passed ? 1 : 0]++;
+            consumer.accept(result);
+        }
+
+        private void report(MetricsRegistry metrics) {
+            Map<DiagnosticSeverity, Long> severityCounts = new EnumMap<>(DiagnosticSeverity.class);
+            long violations = 0;
+            for (Map.Entry<Rule, long[]> entry : ruleCounts.entrySet()) {
+                Rule rule = entry.getKey();
+                long[] counts = entry.getValue();
+                if (counts[0] > 0) {
+                    metrics.counter(ValidatorMetrics.RULE_RESULTS, ValidatorMetrics.RULE_TAG, rule.name,
+                            ValidatorMetrics.OUTCOME_TAG, ValidatorMetrics.OUTCOME_FAILED).increment(counts[0]);
+                    severityCounts.merge(rule.severity, counts[0], Long::sum);
+                    violations += counts[0];
+                }
+                if (counts[1] > 0) {
+                    metrics.counter(ValidatorMetrics.RULE_RESULTS, ValidatorMetrics.RULE_TAG, rule.name,
+                            ValidatorMetrics.OUTCOME_TAG, ValidatorMetrics.OUTCOME_PASSED).increment(counts[1]);
+                }
+            }
+            for (Map.Entry<DiagnosticSeverity, Long> entry : severityCounts.entrySet()) {
+                metrics.counter(ValidatorMetrics.VIOLATIONS, ValidatorMetrics.SEVERITY_TAG,
+                        DiagnosticSeverity.getSeverityString(entry.getKey())).increment(entry.getValue());
+            }
+            metrics.histogram(ValidatorMetrics.DOCUMENT_VIOLATIONS).record(violations);
+        }
+    }
+
+    /**
+     * Counts the violations reported while a document is linted, and tells when the limits of the validation options
+     * are reached. Rules are counted one after the other.
+     */
+    private static final class ViolationLimits {
+        private final int maxViolationsPerRule;
+        private final int maxViolationsPerDocument;
+        private final boolean stopOnFirstError;
+        private int ruleViolations = 0;
+        private int documentViolations = 0;
+        private boolean stopped = false;
+        // Tells when the results are no longer needed, or null if they are always needed
+        private final BooleanSupplier cancellation;
+
+        private ViolationLimits(ValidationOptions validationOptions) {
+            this(validationOptions, null);
+        }
+
+        private ViolationLimits(ValidationOptions validationOptions, BooleanSupplier cancellation) {
+            Integer perRule = validationOptions != null ? validationOptions.getMaxViolationsPerRule() : null;
+            Integer perDocument = validationOptions != null ? validationOptions.getMaxViolationsPerDocument() : null;
+            this.maxViolationsPerRule = perRule != null ? perRule : Integer.MAX_VALUE;
+            this.maxViolationsPerDocument = perDocument != null ? perDocument : Integer.MAX_VALUE;
+            this.stopOnFirstError = validationOptions != null && validationOptions.isStopOnFirstError();
+            this.cancellation = cancellation;
+        }
+
+        private void startRule() {
+            ruleViolations = 0;
+        }
+
+        private void count(LintResult result) {
+            if (result.passed) {
+                return;
+            }
+            ruleViolations++;
+            documentViolations++;
+            if (documentViolations >= maxViolationsPerDocument
+                    || (stopOnFirstError && result.rule.severity == DiagnosticSeverity.ERROR)) {
+                stopped = true;
+            }
+        }
+
+        /**
+         * Returns whether no more results of the current rule should be reported.
+         */
+        private boolean isRuleComplete() {
+            return stopped || ruleViolations >= maxViolationsPerRule ||
+                    (cancellation != null && cancellation.getAsBoolean());
+        }
+
+        /**
+         * Returns whether no more results of any rule should be reported.
+         */
+        private boolean isStopped() {
+            return stopped;
+        }
     }
 
     private List<LintTarget> getLintTargets(Object node, RuleThen then) {
@@ -227,41 +583,59 @@ public class Document {
                     }
                 }
             } else if (then.field.startsWith(Constants.JSON_PATH_ROOT)) {
-                Configuration config = Configuration.builder().options(Option.AS_PATH_LIST).build();
-                List<String> paths;
+                List<PathMatch> matches;
                 try {
-                    paths = JsonPath.using(config).parse(node).read(then.field);
-                } catch (PathNotFoundException e) {
+                    matches = readMatches(getFieldPath(then), node);
+                } catch (InvalidPathException e) {
+                    // Thrown when the field is not a valid path, and as PathNotFoundException when it does not match
                     return lintTargets;
                 }
 
-                for (String path : paths) {
-                    List<String> splitPath = splitJsonPath(path);
-                    Object value;
-                    try {
-                        value = JsonPath.read(node, path);
-                        lintTargets.add(new LintTarget(splitPath, value));
-                    } catch (PathNotFoundException ignored) {
-
-                    }
+                for (PathMatch match : matches) {
+                    lintTargets.add(new LintTarget(match.path, match.node));
                 }
             } else {
                 List<String> path = toPath(then.field);
                 Object value;
                 try {
-                    value = JsonPath.read(node, then.field);
+                    value = getFieldPath(then).read(node);
                     lintTargets.add(new LintTarget(path, value));
                 } catch (PathNotFoundException e) {
                     lintTargets.add(new LintTarget(path, null));
+                } catch (InvalidPathException e) {
+                    // A field that is not a valid path is rejected when the ruleset is built, and is skipped when a
+                    // ruleset that failed to build is linted
+                    return lintTargets;
                 }
             }
         } else {
-            lintTargets.add(new LintTarget(new ArrayList<String>(), node));
+            lintTargets.add(new LintTarget(Collections.emptyList(), node));
         }
 
         return lintTargets;
     }
 
+    /**
+     * Evaluates a JSON path and returns every matched node with its path. Nodes are collected while the path is
+     * evaluated, so matched paths do not have to be read again.
+     *
+     * @throws PathNotFoundException if a definite path does not match a node
+     */
+    static List<PathMatch> readMatches(JsonPath jsonPath, Object model) {
+        List<PathMatch> matches = new ArrayList<>();
+        Configuration configuration = PATH_LIST_CONFIGURATION.addEvaluationListeners(found -> {
+            matches.add(new PathMatch(splitJsonPath(found.path()), found.result()));
+            return EvaluationListener.EvaluationContinuation.CONTINUE;
+        });
+        jsonPath.read(model, configuration);
+        return matches;
+    }
+
+    private static JsonPath getFieldPath(RuleThen then) {
+        JsonPath fieldPath = then.getFieldPath();
+        return fieldPath != null ? fieldPath : JsonPath.compile(then.field);
+    }
+
     public static List<String> splitJsonPath(String jsonPath) {
         List<String> parts = new ArrayList<>();
         StringBuilder currentPart = new StringBuilder();
@@ -287,8 +661,7 @@ public class Document {
         List<String> segments = new ArrayList<>();
 
         // Regex to match either dot-separated keys or bracket notation
-        Pattern pattern = Pattern.compile(Constants.JSON_PATH_GROUPING_REGEX);
-        Matcher matcher = pattern.matcher(path);
+        Matcher matcher = JSON_PATH_GROUPING_PATTERN.matcher(path);
 
         while (matcher.find()) {
             if (matcher.group(1) != null) {
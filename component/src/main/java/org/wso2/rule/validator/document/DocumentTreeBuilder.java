@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.document;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Builds the JsonPath document tree directly from the object graph loaded by snakeyaml. The tree is identical to the
+ * one obtained by serializing the YAML data to JSON with Gson and parsing it back with JsonPath, without the memory and
+ * time cost of the intermediate JSON text.
+ */
+final class DocumentTreeBuilder {
+
+    // The JSON parser of the default provider keeps floating point numbers with longer text as BigDecimal
+    private static final int MAX_DOUBLE_TEXT_LENGTH = 18;
+    private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private final JsonProvider jsonProvider;
+    private Gson gson;
+
+    DocumentTreeBuilder() {
+        this.jsonProvider = Configuration.defaultConfiguration().jsonProvider();
+    }
+
+    /**
+     * Converts YAML data to a document tree made of the maps and arrays of the default JsonPath provider.
+     *
+     * @param yamlData data loaded by snakeyaml
+     * @return document tree
+     * @throws IllegalArgumentException if the data contains a number that cannot be represented in JSON
+     */
+    Object build(Object yamlData) {
+        if (yamlData == null || yamlData instanceof String || yamlData instanceof Boolean) {
+            return yamlData;
+        }
+        if (yamlData instanceof Map) {
+            Object map = jsonProvider.createMap();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) yamlData).entrySet()) {
+                jsonProvider.setProperty(map, String.valueOf(entry.getKey()), build(entry.getValue()));
+            }
+            return map;
+        }
+        if (yamlData instanceof Collection) {
+            Object array = jsonProvider.createArray();
+            int index = 0;
+            for (Object item : (Collection<?>) yamlData) {
+                jsonProvider.setArrayIndex(array, index++, build(item));
+            }
+            return array;
+        }
+        if (yamlData instanceof Integer || yamlData instanceof Long || yamlData instanceof BigInteger) {
+            return buildInteger((Number) yamlData);
+        }
+        if (yamlData instanceof Double) {
+            return buildDouble((Double) yamlData);
+        }
+
+        // Values of other types such as binary data keep the representation chosen by Gson
+        if (gson == null) {
+            gson = new GsonBuilder().serializeNulls().create();
+        }
+        return jsonProvider.parse(gson.toJson(yamlData));
+    }
+
+    private static Number buildInteger(Number value) {
+        if (value instanceof BigInteger) {
+            BigInteger bigInteger = (BigInteger) value;
+            if (bigInteger.compareTo(MIN_LONG) < 0 || bigInteger.compareTo(MAX_LONG) > 0) {
+                return bigInteger;
+            }
+        }
+        long longValue = value.longValue();
+        if (longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE) {
+            return (int) longValue;
+        }
+        return longValue;
+    }
+
+    private static Number buildDouble(Double value) {
+        if (value.isNaN() || value.isInfinite()) {
+            throw new IllegalArgumentException(value + " is not a valid double value as per JSON specification.");
+        }
+        String text = value.toString();
+        if (text.length() > MAX_DOUBLE_TEXT_LENGTH) {
+            return new BigDecimal(text);
+        }
+        return value;
+    }
+}
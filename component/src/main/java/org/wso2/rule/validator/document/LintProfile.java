@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.document;
+
+import org.wso2.rule.validator.ruleset.Rule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Time spent linting a document and the share of each rule, collected when
+ * {@link org.wso2.rule.validator.validator.ValidationOptions#setCollectLintProfile(boolean)} is enabled.
+ * <p>
+ * The given paths of all the rules are matched in a single walk of the document. The time of that walk is reported for
+ * the whole lint, and is also split across the given times of the rules.
+ */
+public class LintProfile {
+    private final List<RuleProfile> ruleProfiles;
+    private long traversalTimeNanos;
+    private long traversalStepCount;
+    private long lintTimeNanos;
+
+    LintProfile(List<Rule> rules) {
+        List<RuleProfile> profiles = new ArrayList<>(rules.size());
+        for (Rule rule : rules) {
+            profiles.add(new RuleProfile(rule.name, rule.severity));
+        }
+        this.ruleProfiles = Collections.unmodifiableList(profiles);
+    }
+
+    /**
+     * Returns the profiles of the rules that apply to the document, in the order they are linted.
+     *
+     * @return rule profiles
+     */
+    public List<RuleProfile> getRuleProfiles() {
+        return ruleProfiles;
+    }
+
+    /**
+     * Returns the time of the single walk of the document that matches the given paths of all the rules. The time is
+     * already part of the given times of the rules, see {@link RuleProfile#getGivenTimeNanos()}.
+     *
+     * @return time in nanoseconds
+     */
+    public long getTraversalTimeNanos() {
+        return traversalTimeNanos;
+    }
+
+    /**
+     * Returns the number of times a step of the given paths was applied to a node of the document in the single walk
+     * of the document. Unlike the matches of the rules, the count includes the nodes that are only passed through on
+     * the way to a match, such as every node under a recursive descent, so it measures the work of the walk.
+     *
+     * @return number of traversal steps
+     */
+    public long getTraversalStepCount() {
+        return traversalStepCount;
+    }
+
+    /**
+     * Returns the time of the whole lint, from matching the given paths to reporting the last result.
+     *
+     * @return time in nanoseconds
+     */
+    public long getLintTimeNanos() {
+        return lintTimeNanos;
+    }
+
+    RuleProfile getRuleProfile(int ruleIndex) {
+        return ruleProfiles.get(ruleIndex);
+    }
+
+    void setTraversalTimeNanos(long traversalTimeNanos) {
+        this.traversalTimeNanos = traversalTimeNanos;
+    }
+
+    void setTraversalStepCount(long traversalStepCount) {
+        this.traversalStepCount = traversalStepCount;
+    }
+
+    void setLintTimeNanos(long lintTimeNanos) {
+        this.lintTimeNanos = lintTimeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "LintProfile{" +
+                "lintTimeNanos=" + lintTimeNanos +
+                ", traversalTimeNanos=" + traversalTimeNanos +
+                ", traversalStepCount=" + traversalStepCount +
+                ", ruleProfiles=" + ruleProfiles +
+                '}';
+    }
+}
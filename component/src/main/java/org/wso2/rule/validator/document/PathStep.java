@@ -0,0 +1,206 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.document;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.JsonPathException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A single step of a given path, such as a property name, a wildcard or a filter. A step selects nodes relative to a
+ * node of the document in the same order as JsonPath does, so that a path evaluated step by step matches the same
+ * nodes as the compiled JsonPath.
+ */
+final class PathStep {
+
+    /**
+     * Kinds of path steps.
+     */
+    enum Type {
+        PROPERTY,
+        UNION,
+        WILDCARD,
+        INDEX,
+        DESCENDANTS,
+        FILTER
+    }
+
+    private static final PathStep WILDCARD_STEP = new PathStep(Type.WILDCARD, Collections.emptyList(), -1, null);
+    private static final PathStep DESCENDANTS_STEP = new PathStep(Type.DESCENDANTS, Collections.emptyList(), -1, null);
+
+    private final Type type;
+    private final List<String> names;
+    private final int index;
+    private final String filter;
+    private final JsonPath filterPath;
+
+    private PathStep(Type type, List<String> names, int index, String filter) {
+        this.type = type;
+        this.names = names;
+        this.index = index;
+        this.filter = filter;
+        // A filter is evaluated on a single candidate by applying it to a list that only contains the candidate
+        this.filterPath = filter != null ? JsonPath.compile("$[?(" + filter + ")]") : null;
+    }
+
+    static PathStep property(String name) {
+        return new PathStep(Type.PROPERTY, Collections.singletonList(name), -1, null);
+    }
+
+    static PathStep union(List<String> names) {
+        return new PathStep(Type.UNION, List.copyOf(names), -1, null);
+    }
+
+    static PathStep wildcard() {
+        return WILDCARD_STEP;
+    }
+
+    static PathStep index(int index) {
+        return new PathStep(Type.INDEX, Collections.emptyList(), index, null);
+    }
+
+    static PathStep descendants() {
+        return DESCENDANTS_STEP;
+    }
+
+    static PathStep filter(String expression) {
+        return new PathStep(Type.FILTER, Collections.emptyList(), -1, expression);
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    /**
+     * Passes every node selected by this step from the given node to the visitor.
+     *
+     * @param node    node to select from
+     * @param path    path of the node
+     * @param visitor visitor of the selected nodes
+     */
+    void select(Object node, TraversalPlan.Segment path, Visitor visitor) {
+        switch (type) {
+            case PROPERTY:
+            case UNION:
+                if (node instanceof Map) {
+                    Map<String, Object> map = (Map<String, Object>) node;
+                    for (String name : names) {
+                        if (map.containsKey(name)) {
+                            visitor.visit(map.get(name), path.append(name));
+                        }
+                    }
+                }
+                break;
+            case WILDCARD:
+                if (node instanceof Map) {
+                    for (Map.Entry<String, Object> entry : ((Map<String, Object>) node).entrySet()) {
+                        visitor.visit(entry.getValue(), path.append(entry.getKey()));
+                    }
+                } else if (node instanceof List) {
+                    List<Object> list = (List<Object>) node;
+                    for (int i = 0; i < list.size(); i++) {
+                        visitor.visit(list.get(i), path.append(String.valueOf(i)));
+                    }
+                }
+                break;
+            case INDEX:
+                if (node instanceof List && index < ((List<Object>) node).size()) {
+                    visitor.visit(((List<Object>) node).get(index), path.append(String.valueOf(index)));
+                }
+                break;
+            case DESCENDANTS:
+                selectDescendants(node, path, visitor);
+                break;
+            case FILTER:
+                // As in JsonPath, a filter applies to an object itself and to each element of an array
+                if (node instanceof Map) {
+                    if (accept(node)) {
+                        visitor.visit(node, path);
+                    }
+                } else if (node instanceof List) {
+                    List<Object> list = (List<Object>) node;
+                    for (int i = 0; i < list.size(); i++) {
+                        if (accept(list.get(i))) {
+                            visitor.visit(list.get(i), path.append(String.valueOf(i)));
+                        }
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Selects the node and all the objects and arrays below it, each before its children.
+     */
+    private static void selectDescendants(Object node, TraversalPlan.Segment path, Visitor visitor) {
+        if (node instanceof Map) {
+            visitor.visit(node, path);
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) node).entrySet()) {
+                selectDescendants(entry.getValue(), path.append(entry.getKey()), visitor);
+            }
+        } else if (node instanceof List) {
+            visitor.visit(node, path);
+            List<Object> list = (List<Object>) node;
+            for (int i = 0; i < list.size(); i++) {
+                selectDescendants(list.get(i), path.append(String.valueOf(i)), visitor);
+            }
+        }
+    }
+
+    private boolean accept(Object candidate) {
+        try {
+            List<String> accepted = filterPath.read(Collections.singletonList(candidate),
+                    Document.PATH_LIST_CONFIGURATION);
+            return !accepted.isEmpty();
+        } catch (JsonPathException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PathStep)) {
+            return false;
+        }
+        PathStep other = (PathStep) o;
+        return type == other.type && index == other.index && names.equals(other.names)
+                && Objects.equals(filter, other.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, names, index, filter);
+    }
+
+    /**
+     * Receives the nodes selected by a step.
+     */
+    interface Visitor {
+        void visit(Object node, TraversalPlan.Segment path);
+    }
+}
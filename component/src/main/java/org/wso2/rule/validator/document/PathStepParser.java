@@ -0,0 +1,218 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses given paths into {@link PathStep}s. Only the subset of the JsonPath syntax that can be evaluated step by step
+ * with exactly the same results as JsonPath is supported: properties, property unions, wildcards, array indexes,
+ * recursive descent into properties or wildcards, and filters that do not refer to the document root. Paths that use
+ * anything else are evaluated with JsonPath instead.
+ */
+final class PathStepParser {
+
+    private final String path;
+    private int position;
+
+    private PathStepParser(String path) {
+        this.path = path;
+        this.position = 0;
+    }
+
+    /**
+     * Parses a given path.
+     *
+     * @param path given path
+     * @return steps of the path, or null if the path uses syntax that is not supported
+     */
+    static List<PathStep> parse(String path) {
+        return new PathStepParser(path.trim()).parse();
+    }
+
+    private List<PathStep> parse() {
+        if (!path.startsWith("$")) {
+            return null;
+        }
+        position = 1;
+        List<PathStep> steps = new ArrayList<>();
+        while (position < path.length()) {
+            PathStep step;
+            if (path.startsWith("..", position)) {
+                position += 2;
+                steps.add(PathStep.descendants());
+                step = path.startsWith("[", position) ? readBracketStep() : readDotStep();
+                // JsonPath only scans for properties and wildcards in the same way as the other steps select nodes
+                if (step == null || (step.getType() != PathStep.Type.PROPERTY
+                        && step.getType() != PathStep.Type.WILDCARD)) {
+                    return null;
+                }
+            } else if (path.charAt(position) == '.') {
+                position++;
+                step = readDotStep();
+            } else if (path.charAt(position) == '[') {
+                step = readBracketStep();
+            } else {
+                return null;
+            }
+            if (step == null) {
+                return null;
+            }
+            steps.add(step);
+        }
+        // JsonPath merges the properties of a union at the end of a path into a single object
+        if (!steps.isEmpty() && steps.get(steps.size() - 1).getType() == PathStep.Type.UNION) {
+            return null;
+        }
+        return steps;
+    }
+
+    private PathStep readDotStep() {
+        int start = position;
+        while (position < path.length() && path.charAt(position) != '.' && path.charAt(position) != '[') {
+            char c = path.charAt(position);
+            if (c == '(' || Character.isWhitespace(c)) {
+                return null;
+            }
+            position++;
+        }
+        String name = path.substring(start, position);
+        if (name.isEmpty() || (name.startsWith("*") && name.length() > 1)) {
+            return null;
+        }
+        return "*".equals(name) ? PathStep.wildcard() : PathStep.property(name);
+    }
+
+    private PathStep readBracketStep() {
+        position++;
+        skipWhitespace();
+        if (position >= path.length()) {
+            return null;
+        }
+        char c = path.charAt(position);
+        PathStep step;
+        if (c == '*') {
+            position++;
+            step = PathStep.wildcard();
+        } else if (c == '?') {
+            step = readFilter();
+        } else if (c == '\'' || c == '"') {
+            step = readProperties();
+        } else if (Character.isDigit(c)) {
+            step = readIndex();
+        } else {
+            return null;
+        }
+        if (step == null) {
+            return null;
+        }
+        skipWhitespace();
+        if (position >= path.length() || path.charAt(position) != ']') {
+            return null;
+        }
+        position++;
+        return step;
+    }
+
+    private PathStep readProperties() {
+        List<String> names = new ArrayList<>();
+        // JsonPath reads every name of the step with the quote of the first name
+        char quote = path.charAt(position);
+        while (true) {
+            if (path.charAt(position) != quote) {
+                return null;
+            }
+            int end = path.indexOf(quote, position + 1);
+            if (end < 0) {
+                return null;
+            }
+            String name = path.substring(position + 1, end);
+            if (name.indexOf('\\') >= 0) {
+                return null;
+            }
+            names.add(name);
+            position = end + 1;
+            skipWhitespace();
+            if (position < path.length() && path.charAt(position) == ',') {
+                position++;
+                skipWhitespace();
+                if (position >= path.length()) {
+                    return null;
+                }
+            } else {
+                break;
+            }
+        }
+        return names.size() == 1 ? PathStep.property(names.get(0)) : PathStep.union(names);
+    }
+
+    private PathStep readIndex() {
+        int start = position;
+        while (position < path.length() && Character.isDigit(path.charAt(position))) {
+            position++;
+        }
+        if (position - start > 9) {
+            return null;
+        }
+        return PathStep.index(Integer.parseInt(path.substring(start, position)));
+    }
+
+    private PathStep readFilter() {
+        position++;
+        if (position >= path.length() || path.charAt(position) != '(') {
+            return null;
+        }
+        int start = position + 1;
+        int depth = 0;
+        char quote = 0;
+        for (; position < path.length(); position++) {
+            char c = path.charAt(position);
+            if (c == '\\') {
+                position++;
+            } else if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '$' || c == '/') {
+                // Filters that refer to the document root cannot be evaluated on a single candidate, and regular
+                // expressions are left to JsonPath to delimit
+                return null;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+                if (depth == 0) {
+                    String expression = path.substring(start, position);
+                    position++;
+                    return PathStep.filter(expression);
+                }
+            }
+        }
+        return null;
+    }
+
+    private void skipWhitespace() {
+        while (position < path.length() && Character.isWhitespace(path.charAt(position))) {
+            position++;
+        }
+    }
+}
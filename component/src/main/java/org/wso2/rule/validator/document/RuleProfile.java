@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.document;
+
+import org.wso2.rule.validator.DiagnosticSeverity;
+
+/**
+ * Time and counts of a single rule while a document is linted. Part of a {@link LintProfile}.
+ */
+public class RuleProfile {
+    private final String ruleName;
+    private final DiagnosticSeverity severity;
+    private long givenTimeNanos;
+    private int matchCount;
+    private long targetCount;
+    private long functionTimeNanos;
+    private long violationCount;
+
+    RuleProfile(String ruleName, DiagnosticSeverity severity) {
+        this.ruleName = ruleName;
+        this.severity = severity;
+    }
+
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    public DiagnosticSeverity getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Returns the time spent matching the given paths of the rule. The given paths of all the rules are matched in a
+     * single walk of the document, and each rule is given a share of its time in proportion to the nodes matched by the
+     * steps of its given paths. A step shared by several rules is split evenly among them, so the share is an estimate.
+     * Given paths that are evaluated with JsonPath, and collecting the matched nodes, are measured for each rule.
+     *
+     * @return time in nanoseconds
+     */
+    public long getGivenTimeNanos() {
+        return givenTimeNanos;
+    }
+
+    /**
+     * Returns the number of nodes matched by the given paths of the rule.
+     *
+     * @return number of matched nodes
+     */
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * Returns the number of targets the functions of the rule were executed on. When matches are linted sequentially,
+     * targets left out once a violation limit is reached are not counted. When they are linted in parallel, every
+     * target of a reported chunk of matches is counted, including targets after the limit was reached within it,
+     * since the functions were executed on them before the limit was applied.
+     *
+     * @return number of lint targets
+     */
+    public long getTargetCount() {
+        return targetCount;
+    }
+
+    /**
+     * Returns the time spent executing the functions of the rule, on the targets counted by
+     * {@link #getTargetCount()}.
+     *
+     * @return time in nanoseconds
+     */
+    public long getFunctionTimeNanos() {
+        return functionTimeNanos;
+    }
+
+    /**
+     * Returns the number of violations of the rule that were reported.
+     *
+     * @return number of violations
+     */
+    public long getViolationCount() {
+        return violationCount;
+    }
+
+    void recordGiven(long timeNanos, int matchCount) {
+        this.givenTimeNanos += timeNanos;
+        this.matchCount += matchCount;
+    }
+
+    void recordFunctionExecution(long timeNanos) {
+        this.targetCount++;
+        this.functionTimeNanos += timeNanos;
+    }
+
+    void recordViolation() {
+        this.violationCount++;
+    }
+
+    /**
+     * Adds the function executions recorded by a parallel lint task for the same rule.
+     */
+    void addFunctionExecutions(RuleProfile other) {
+        this.targetCount += other.targetCount;
+        this.functionTimeNanos += other.functionTimeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleProfile{" +
+                "ruleName='" + ruleName + '\'' +
+                ", givenTimeNanos=" + givenTimeNanos +
+                ", matchCount=" + matchCount +
+                ", targetCount=" + targetCount +
+                ", functionTimeNanos=" + functionTimeNanos +
+                ", violationCount=" + violationCount +
+                '}';
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.document;
+
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import org.wso2.rule.validator.InvalidRulesetException;
+import org.wso2.rule.validator.ruleset.Format;
+import org.wso2.rule.validator.ruleset.Rule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates the given paths of all the rules that apply to a document in a single walk of the document. The given
+ * paths are split into steps and merged into a tree, so that paths sharing a prefix, such as every path under
+ * {@code $.paths[*]}, and paths scanning the whole document with recursive descent visit each node only once. Given
+ * paths using syntax that cannot be evaluated step by step are evaluated with JsonPath.
+ * <p>
+ * When a lint profile is recorded, the time of the walk is split across the rules in proportion to the nodes matched by
+ * the steps of their given paths. A step shared by several rules is split evenly among them.
+ * <p>
+ * A plan is built once per ruleset and list of document formats, and can be used by concurrent validations.
+ */
+public final class TraversalPlan {
+
+    private final List<Rule> rules;
+    private final List<List<Given>> ruleGivens = new ArrayList<>();
+    private final List<int[]> ruleNodes = new ArrayList<>();
+    private final Node root;
+    private final List<JsonPath> fallbackPaths = new ArrayList<>();
+    private int terminalCount = 0;
+    private int nodeCount = 0;
+    private int[] nodeRuleCounts;
+
+    private TraversalPlan(List<Rule> rules) {
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+        this.root = new Node(nodeCount++);
+    }
+
+    /**
+     * Compiles the given paths of rules into a traversal plan.
+     *
+     * @param rules           rules that apply to the documents, in the order they are linted
+     * @param documentFormats formats of the documents
+     * @return traversal plan
+     * @throws InvalidRulesetException if an alias in a given path cannot be resolved
+     */
+    public static TraversalPlan compile(List<Rule> rules, List<Format> documentFormats)
+            throws InvalidRulesetException {
+        TraversalPlan plan = new TraversalPlan(rules);
+        Map<String, Given> compiledGiven = new HashMap<>();
+        for (Rule rule : plan.rules) {
+            List<Given> givens = new ArrayList<>();
+            for (String givenPath : rule.getResolvedGiven(documentFormats)) {
+                Given given = compiledGiven.get(givenPath);
+                if (given == null) {
+                    given = plan.compileGiven(givenPath);
+                    if (given == null) {
+                        continue;
+                    }
+                    compiledGiven.put(givenPath, given);
+                }
+                givens.add(given);
+            }
+            plan.ruleGivens.add(Collections.unmodifiableList(givens));
+            plan.ruleNodes.add(getNodes(givens));
+        }
+        plan.nodeRuleCounts = new int[plan.nodeCount];
+        for (int[] nodes : plan.ruleNodes) {
+            for (int node : nodes) {
+                plan.nodeRuleCounts[node]++;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Returns the indexes of the nodes on the steps of the given paths, each node once.
+     */
+    private static int[] getNodes(List<Given> givens) {
+        LinkedHashSet<Integer> nodes = new LinkedHashSet<>();
+        for (Given given : givens) {
+            for (int node : given.nodes) {
+                nodes.add(node);
+            }
+        }
+        int[] nodeArray = new int[nodes.size()];
+        int i = 0;
+        for (int node : nodes) {
+            nodeArray[i++] = node;
+        }
+        return nodeArray;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    private Given compileGiven(String givenPath) {
+        JsonPath jsonPath;
+        try {
+            jsonPath = JsonPath.compile(givenPath);
+        } catch (InvalidPathException e) {
+            // Unsupported paths are ignored while linting
+            return null;
+        }
+
+        List<PathStep> steps;
+        try {
+            steps = PathStepParser.parse(givenPath);
+        } catch (InvalidPathException e) {
+            // A filter that cannot be compiled on its own is left to JsonPath
+            steps = null;
+        }
+        if (steps == null) {
+            fallbackPaths.add(jsonPath);
+            return new Given(-1, fallbackPaths.size() - 1, new int[0]);
+        }
+        int[] nodes = new int[steps.size() + 1];
+        Node node = root;
+        nodes[0] = root.index;
+        for (int i = 0; i < steps.size(); i++) {
+            node = node.children.computeIfAbsent(steps.get(i), key -> new Node(nodeCount++));
+            nodes[i + 1] = node.index;
+        }
+        if (node.terminal < 0) {
+            node.terminal = terminalCount++;
+        }
+        return new Given(node.terminal, -1, nodes);
+    }
+
+    /**
+     * Finds the nodes matched by the given paths of every rule of the plan.
+     *
+     * @param document document to traverse
+     * @return matches of each rule, in the order of the rules of the plan
+     */
+    List<List<PathMatch>> evaluate(Object document) {
+        return evaluate(document, null);
+    }
+
+    /**
+     * Finds the nodes matched by the given paths of every rule of the plan, and records the time and steps of the walk
+     * and the given time and matches of each rule in a lint profile.
+     *
+     * @param document document to traverse
+     * @param profile  profile of the plan's rules to record into, or {@code null} to not record anything
+     * @return matches of each rule, in the order of the rules of the plan
+     */
+    List<List<PathMatch>> evaluate(Object document, LintProfile profile) {
+        long start = profile != null ? System.nanoTime() : 0;
+        List<List<PathMatch>> terminalMatches = new ArrayList<>(terminalCount);
+        for (int i = 0; i < terminalCount; i++) {
+            terminalMatches.add(new ArrayList<>());
+        }
+        long[] nodeMatchCounts = profile != null ? new long[nodeCount] : null;
+        visit(root, document, Segment.ROOT, terminalMatches, nodeMatchCounts);
+        long[] ruleTraversalTimes = null;
+        if (profile != null) {
+            long traversalTime = System.nanoTime() - start;
+            profile.setTraversalTimeNanos(traversalTime);
+            long traversalStepCount = 0;
+            for (long nodeMatchCount : nodeMatchCounts) {
+                traversalStepCount += nodeMatchCount;
+            }
+            profile.setTraversalStepCount(traversalStepCount);
+            ruleTraversalTimes = splitTraversalTime(traversalTime, nodeMatchCounts);
+        }
+
+        List<List<PathMatch>> fallbackMatches = new ArrayList<>(Collections.nCopies(fallbackPaths.size(), null));
+        List<List<PathMatch>> results = new ArrayList<>(rules.size());
+        for (List<Given> givens : ruleGivens) {
+            long ruleStart = profile != null ? System.nanoTime() : 0;
+            List<PathMatch> ruleMatches = new ArrayList<>();
+            for (Given given : givens) {
+                if (given.terminal >= 0) {
+                    ruleMatches.addAll(terminalMatches.get(given.terminal));
+                } else {
+                    List<PathMatch> matches = fallbackMatches.get(given.fallback);
+                    if (matches == null) {
+                        matches = evaluateWithJsonPath(fallbackPaths.get(given.fallback), document);
+                        fallbackMatches.set(given.fallback, matches);
+                    }
+                    ruleMatches.addAll(matches);
+                }
+            }
+            if (profile != null) {
+                int ruleIndex = results.size();
+                profile.getRuleProfile(ruleIndex).recordGiven(
+                        System.nanoTime() - ruleStart + ruleTraversalTimes[ruleIndex], ruleMatches.size());
+            }
+            results.add(ruleMatches);
+        }
+        return results;
+    }
+
+    /**
+     * Splits the time of the walk across the rules, in proportion to the nodes matched by the steps of their given
+     * paths. The matches of a step shared by several rules are split evenly among them, and the times add up to the
+     * time of the walk.
+     */
+    private long[] splitTraversalTime(long traversalTimeNanos, long[] nodeMatchCounts) {
+        double[] shares = new double[ruleNodes.size()];
+        double totalShare = 0;
+        for (int i = 0; i < shares.length; i++) {
+            for (int node : ruleNodes.get(i)) {
+                shares[i] += (double) nodeMatchCounts[node] / nodeRuleCounts[node];
+            }
+            totalShare += shares[i];
+        }
+        long[] times = new long[shares.length];
+        if (totalShare == 0) {
+            return times;
+        }
+        double cumulativeShare = 0;
+        long splitTime = 0;
+        for (int i = 0; i < shares.length; i++) {
+            cumulativeShare += shares[i];
+            long cumulativeTime = Math.round(traversalTimeNanos * (cumulativeShare / totalShare));
+            times[i] = cumulativeTime - splitTime;
+            splitTime = cumulativeTime;
+        }
+        return times;
+    }
+
+    private static void visit(Node node, Object value, Segment path, List<List<PathMatch>> terminalMatches,
+            long[] nodeMatchCounts) {
+        if (nodeMatchCounts != null) {
+            nodeMatchCounts[node.index]++;
+        }
+        if (node.terminal >= 0) {
+            terminalMatches.get(node.terminal).add(new PathMatch(path.toList(), value));
+        }
+        for (Map.Entry<PathStep, Node> child : node.children.entrySet()) {
+            Node childNode = child.getValue();
+            child.getKey().select(value, path,
+                    (selected, selectedPath) -> visit(childNode, selected, selectedPath, terminalMatches,
+                            nodeMatchCounts));
+        }
+    }
+
+    private static List<PathMatch> evaluateWithJsonPath(JsonPath jsonPath, Object document) {
+        try {
+            return Document.readMatches(jsonPath, document);
+        } catch (InvalidPathException e) {
+            // Also thrown as PathNotFoundException when the path does not match any node
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Node of the tree of path steps. Children are kept in the order they were added, so that steps are evaluated in
+     * the order of the rules.
+     */
+    private static final class Node {
+        private final int index;
+        private final Map<PathStep, Node> children = new LinkedHashMap<>();
+        private int terminal = -1;
+
+        private Node(int index) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * A compiled given path, which is either a terminal node of the tree of path steps, with the nodes of its steps,
+     * or a path evaluated with JsonPath.
+     */
+    private static final class Given {
+        private final int terminal;
+        private final int fallback;
+        private final int[] nodes;
+
+        private Given(int terminal, int fallback, int[] nodes) {
+            this.terminal = terminal;
+            this.fallback = fallback;
+            this.nodes = nodes;
+        }
+    }
+
+    /**
+     * Path of a node in the document, shared with the paths of its parent nodes.
+     */
+    static final class Segment {
+        static final Segment ROOT = new Segment(null, null, 0);
+
+        private final Segment parent;
+        private final String name;
+        private final int depth;
+
+        private Segment(Segment parent, String name, int depth) {
+            this.parent = parent;
+            this.name = name;
+            this.depth = depth;
+        }
+
+        Segment append(String segmentName) {
+            return new Segment(this, segmentName, depth + 1);
+        }
+
+        List<String> toList() {
+            String[] names = new String[depth];
+            Segment segment = this;
+            for (int i = depth - 1; i >= 0; i--) {
+                names[i] = segment.name;
+                segment = segment.parent;
+            }
+            List<String> list = new ArrayList<>(depth + 4);
+            Collections.addAll(list, names);
+            return list;
+        }
+    }
+}
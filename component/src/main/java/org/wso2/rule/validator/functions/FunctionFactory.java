@@ -20,9 +20,11 @@ package org.wso2.rule.validator.functions;
 
 import org.apache.commons.lang3.StringUtils;
 import org.reflections.Reflections;
+import org.wso2.rule.validator.metrics.ValidatorMetrics;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -30,6 +32,7 @@ import java.util.Map;
  */
 public class FunctionFactory {
     private static final Map<String, Class<? extends LintFunction>> functionRegistry = new HashMap<>();
+    private static final String UNKNOWN_FUNCTION = "unknown";
 
     // Static block to initialize the registry
     static {
@@ -44,17 +47,44 @@ public class FunctionFactory {
         }
     }
 
+    /**
+     * Creates the function with the given name. The options are validated when the function is created, so a function
+     * that is returned is never executed with invalid options.
+     *
+     * @param functionName    name of the function
+     * @param functionOptions options of the function, or null if there are none
+     * @return created function
+     * @throws InvalidFunctionOptionsException if the options are invalid for the function
+     * @throws InvalidCoreFunctionException    if there is no function with the name, or it cannot be created
+     */
     public static LintFunction getFunction(String functionName, Map<String, Object> functionOptions) throws
             InvalidCoreFunctionException {
-        Class<? extends LintFunction> functionClass = functionRegistry.get(StringUtils.toRootLowerCase(functionName));
+        String registeredName = StringUtils.toRootLowerCase(functionName);
+        Class<? extends LintFunction> functionClass = functionRegistry.get(registeredName);
         if (functionClass == null) {
+            // Unknown names are not used as tags, so that they cannot add metrics without limit
+            recordFunctionCreated(UNKNOWN_FUNCTION, ValidatorMetrics.OUTCOME_ERROR);
             throw new InvalidCoreFunctionException("Unknown function: " + functionName);
         }
+        LintFunction function;
         try {
-            return (LintFunction) functionClass.getDeclaredConstructors()[0].newInstance(functionOptions);
+            function = (LintFunction) functionClass.getDeclaredConstructors()[0].newInstance(functionOptions);
         } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            recordFunctionCreated(registeredName, ValidatorMetrics.OUTCOME_ERROR);
             throw new InvalidCoreFunctionException("Error creating function instance: " + e.getMessage());
         }
+        List<String> optionErrors = function.validateFunctionOptions();
+        if (!optionErrors.isEmpty()) {
+            recordFunctionCreated(registeredName, ValidatorMetrics.OUTCOME_ERROR);
+            throw new InvalidFunctionOptionsException(optionErrors);
+        }
+        recordFunctionCreated(registeredName, ValidatorMetrics.OUTCOME_SUCCESS);
+        return function;
+    }
+
+    private static void recordFunctionCreated(String functionName, String outcome) {
+        ValidatorMetrics.getRegistry().counter(ValidatorMetrics.FUNCTIONS_CREATED,
+                ValidatorMetrics.FUNCTION_TAG, functionName, ValidatorMetrics.OUTCOME_TAG, outcome).increment();
     }
 
     public static boolean isFunction(String functionName) {
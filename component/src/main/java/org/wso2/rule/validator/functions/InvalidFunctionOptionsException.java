@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.functions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exception to represent a function whose options are invalid.
+ */
+public class InvalidFunctionOptionsException extends InvalidCoreFunctionException {
+
+    private final List<String> optionErrors;
+
+    public InvalidFunctionOptionsException(List<String> optionErrors) {
+        super("Function options are invalid: " + optionErrors);
+        this.optionErrors = Collections.unmodifiableList(new ArrayList<>(optionErrors));
+    }
+
+    /**
+     * Returns the errors in the function options.
+     *
+     * @return errors in the function options
+     */
+    public List<String> getOptionErrors() {
+        return optionErrors;
+    }
+}
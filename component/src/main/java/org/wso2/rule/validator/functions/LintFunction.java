@@ -20,33 +20,79 @@ package org.wso2.rule.validator.functions;
 import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.document.LintTarget;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Abstract class to represent a lint function. All lint functions should extend this class and implement the execute
  * method.
+ * <p>
+ * A function is created once for each rule and executed for every target of the rule, so anything a function derives
+ * from its options, such as a compiled pattern or a loaded schema, is derived in its constructor.
  */
 public abstract class LintFunction {
 
-    public Map<String, Object> options;
+    /**
+     * Function options of the rule, after they have been processed. The options cannot be changed once the function is
+     * created, so that values bound from them by the function stay in line with them.
+     */
+    public final Map<String, Object> options;
 
     public LintFunction(Map<String, Object> options) {
-        this.options = options;
-        processFunctionOptions(options);
+        // Process a copy, since the ruleset content the options come from may be shared
+        Map<String, Object> processedOptions = options == null ? null : new LinkedHashMap<>(options);
+        processFunctionOptions(processedOptions);
+        this.options = processedOptions == null ? null : (Map<String, Object>) toUnmodifiable(processedOptions);
     }
 
-    public FunctionResult execute(LintTarget target) throws InvalidRulesetException {
-        List<String> errors = validateFunctionOptions();
-        if (!errors.isEmpty()) {
-            throw new InvalidRulesetException("Function options are invalid: " + errors);
+    /**
+     * Returns an unmodifiable copy of a value of the options, including the maps and lists nested in it.
+     */
+    private static Object toUnmodifiable(Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                copy.put(entry.getKey(), toUnmodifiable(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(copy);
+        } else if (value instanceof List) {
+            List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            for (Object item : (List<?>) value) {
+                copy.add(toUnmodifiable(item));
+            }
+            return Collections.unmodifiableList(copy);
         }
+        return value;
+    }
+
+    /**
+     * Executes the function for a target. The options are not checked here, since functions are created by
+     * {@link FunctionFactory}, which rejects functions with invalid options.
+     *
+     * @param target target to execute the function for
+     * @return result of the function
+     */
+    public FunctionResult execute(LintTarget target) throws InvalidRulesetException {
         return executeFunction(target);
     }
 
     protected abstract FunctionResult executeFunction(LintTarget target);
 
+    /**
+     * Validates the function options. Called by {@link FunctionFactory} once the function is created.
+     *
+     * @return errors in the function options, or an empty list if the options are valid
+     */
     public abstract List<String> validateFunctionOptions();
 
+    /**
+     * Rewrites the function options before they are made unmodifiable. Called while the function is created, before
+     * the constructor of the function continues.
+     *
+     * @param options copy of the function options, or null if the rule has no function options
+     */
     public void processFunctionOptions(Map<String, Object> options) {}
 }
@@ -17,7 +17,6 @@
  */
 package org.wso2.rule.validator.functions.core;
 
-import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.document.LintTarget;
 import org.wso2.rule.validator.functions.FunctionName;
 import org.wso2.rule.validator.functions.FunctionResult;
@@ -33,31 +32,16 @@ import java.util.Map;
 @FunctionName("alphabetical")
 public class AlphabeticalFunction extends LintFunction {
 
+    private final AlphabeticalOptions alphabeticalOptions;
+
     public AlphabeticalFunction(Map<String, Object> options) {
         super(options);
+        this.alphabeticalOptions = AlphabeticalOptions.parse(this.options);
     }
 
     @Override
     public List<String> validateFunctionOptions() {
-
-        List<String> errors = new ArrayList<>();
-
-        if (options == null) {
-            return errors;
-        }
-
-        for (Map.Entry<String, Object> entry : options.entrySet()) {
-            if (entry.getKey().equals(Constants.RULESET_ALPHABETICAL_KEYED_BY)) {
-                if (!(options.get(entry.getKey()) instanceof String)) {
-                    errors.add("The value of '" + Constants.RULESET_ALPHABETICAL_KEYED_BY + "' should be a string");
-                }
-            } else {
-                errors.add("Unknown option '" + entry.getKey() + "' for alphabetical function.");
-            }
-        }
-
-        return errors;
-
+        return new ArrayList<>(alphabeticalOptions.errors);
     }
 
     public FunctionResult executeFunction(LintTarget target) {
@@ -76,64 +60,58 @@ public class AlphabeticalFunction extends LintFunction {
             }
         }
 
-        List<Object> list = (List) value;
-
-        if (options != null && options.containsKey(Constants.RULESET_ALPHABETICAL_KEYED_BY)) {
-            for (Object element : list) {
+        // The elements are checked and compared in a single walk of the list that stops at the first violation
+        Object previous = null;
+        String keyedBy = alphabeticalOptions.keyedBy;
+        for (Object element : (List<Object>) value) {
+            Object valueToCheck = element;
+            if (keyedBy != null) {
                 if (!(element instanceof Map)) {
                     return new FunctionResult(false, target.getTargetName() + " Value is not a list of maps");
                 }
                 Map<String, Object> map = (Map) element;
-                if (!map.containsKey(options.get(Constants.RULESET_ALPHABETICAL_KEYED_BY))) {
-                    return new FunctionResult(false, target.getTargetName() + " Map does not contain key " +
-                            options.get(Constants.RULESET_ALPHABETICAL_KEYED_BY));
-                }
-                Object valueToCheck = map.get(options.get(Constants.RULESET_ALPHABETICAL_KEYED_BY));
-                if (!(valueToCheck instanceof String) && !(valueToCheck instanceof Integer) &&
-                        !(valueToCheck instanceof Double)) {
-                    return new FunctionResult(false, target.getTargetName() + " Value is not a list of strings");
+                if (!map.containsKey(keyedBy)) {
+                    return new FunctionResult(false, target.getTargetName() + " Map does not contain key " + keyedBy);
                 }
+                valueToCheck = map.get(keyedBy);
             }
-            if (isAlphabetical(list, (String) options.get(Constants.RULESET_ALPHABETICAL_KEYED_BY))) {
-                return new FunctionResult(true, null);
-            } else {
-                return new FunctionResult(false, target.getTargetName() + " is not alphabetical");
+            if (!(valueToCheck instanceof String) && !(valueToCheck instanceof Integer) &&
+                    !(valueToCheck instanceof Double)) {
+                return new FunctionResult(false, target.getTargetName() + " Value is not a list of strings");
             }
-        } else {
-            for (Object element : list) {
-                if (!(element instanceof String) && !(element instanceof Integer) && !(element instanceof Double)) {
-                    return new FunctionResult(false, target.getTargetName() + " Value is not a list of strings");
-                }
-            }
-            if (isAlphabetical(list)) {
-                return new FunctionResult(true, null);
-            } else {
+            if (previous != null && compare(previous, valueToCheck) > 0) {
                 return new FunctionResult(false, target.getTargetName() + " is not alphabetical");
             }
+            previous = valueToCheck;
         }
-    }
-
-    private boolean isAlphabetical(List<Object> objectList, String key) {
-        List<Object> list = new ArrayList<>();
-        for (Object obj : objectList) {
-            Map<String, Object> map = (Map) obj;
-            list.add(map.get(key));
-        }
-        return isAlphabetical(list);
+        return new FunctionResult(true, null);
     }
 
     private boolean isAlphabetical(Map<String, Object> map) {
-        return isAlphabetical(new ArrayList<>(map.keySet()));
-    }
-
-    private boolean isAlphabetical(List<Object> list) {
-
-        for (int i = 0; i < list.size() - 1; i++) {
-            if (list.get(i).toString().compareTo(list.get(i + 1).toString()) > 0) {
+        String previous = null;
+        for (String key : map.keySet()) {
+            if (previous != null && previous.compareTo(key) > 0) {
                 return false;
             }
+            previous = key;
         }
         return true;
     }
 
+    /**
+     * Compares two values of a list. Numbers are compared by value and any other values by their string form.
+     */
+    private static int compare(Object first, Object second) {
+        if (first instanceof Integer && second instanceof Integer) {
+            return Integer.compare((Integer) first, (Integer) second);
+        }
+        if (first instanceof Number && second instanceof Number) {
+            return Double.compare(((Number) first).doubleValue(), ((Number) second).doubleValue());
+        }
+        if (first instanceof String && second instanceof String) {
+            return ((String) first).compareTo((String) second);
+        }
+        return first.toString().compareTo(second.toString());
+    }
+
 }
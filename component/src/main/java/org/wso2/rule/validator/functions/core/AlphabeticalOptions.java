@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.rule.validator.functions.core;
+
+import org.wso2.rule.validator.Constants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Options of the alphabetical function, parsed from the function options of a rule.
+ */
+final class AlphabeticalOptions {
+
+    /**
+     * Key by which the maps of a list are ordered, or null if the list itself is ordered.
+     */
+    final String keyedBy;
+    final List<String> errors;
+
+    private AlphabeticalOptions(String keyedBy, List<String> errors) {
+        this.keyedBy = keyedBy;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    static AlphabeticalOptions parse(Map<String, Object> options) {
+        String keyedBy = null;
+        List<String> errors = new ArrayList<>();
+
+        if (options == null) {
+            return new AlphabeticalOptions(keyedBy, errors);
+        }
+
+        for (Map.Entry<String, Object> entry : options.entrySet()) {
+            if (entry.getKey().equals(Constants.RULESET_ALPHABETICAL_KEYED_BY)) {
+                if (entry.getValue() instanceof String) {
+                    keyedBy = (String) entry.getValue();
+                } else {
+                    errors.add("The value of '" + Constants.RULESET_ALPHABETICAL_KEYED_BY + "' should be a string");
+                }
+            } else {
+                errors.add("Unknown option '" + entry.getKey() + "' for alphabetical function.");
+            }
+        }
+
+        return new AlphabeticalOptions(keyedBy, errors);
+    }
+}
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * Function to check the casing of a string
@@ -44,80 +45,22 @@ public class CasingFunction extends LintFunction {
 
     private static final String digitPattern = "0-9";
 
+    private static final char NO_SEPARATOR = 0;
+
+    private final CasingOptions casingOptions;
+    private final CasingMatcher casingMatcher;
+
     public CasingFunction(Map<String, Object> options) {
         super(options);
+        this.casingOptions = CasingOptions.parse(this.options);
+
+        // FunctionFactory rejects invalid options, so the function is never executed with them
+        this.casingMatcher = casingOptions.errors.isEmpty() ? new CasingMatcher(casingOptions) : null;
     }
 
     @Override
     public List<String> validateFunctionOptions() {
-        List<String> errors = new ArrayList<>();
-
-        if (options == null) {
-            errors.add("At least the casing type should be specified in functionOptions in the 'casing' function.");
-            return errors;
-        }
-
-        // required options
-        if (!options.containsKey(Constants.RULESET_CASING_TYPE)) {
-            errors.add("The '" + Constants.RULESET_CASING_TYPE + "' option is required for the 'casing' function.");
-        }
-
-        // optional options
-        for (Map.Entry<String, Object> entry : options.entrySet()) {
-            if (entry.getKey().equals(Constants.RULESET_CASING_DISALLOW_DIGITS)) {
-                if (!(options.get(entry.getKey()) instanceof Boolean)) {
-                    errors.add("The '" + Constants.RULESET_CASING_DISALLOW_DIGITS + "' option should be a boolean.");
-                }
-            } else if (entry.getKey().equals(Constants.RULESET_CASING_SEPARATOR)) {
-                if (!(options.get(entry.getKey()) instanceof Map)) {
-                    errors.add("The '" + Constants.RULESET_CASING_SEPARATOR + "' option should be a map.");
-                    continue;
-                }
-
-                Map<String, Object> separator = (Map<String, Object>) options.get(entry.getKey());
-
-                if (!separator.containsKey(Constants.RULESET_CASING_SEPARATOR_CHAR) &&
-                        !separator.containsKey(Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING)) {
-                    errors.add("The separator object should not be empty if it is defined.");
-                }
-
-                if (separator.containsKey(Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING)
-                        && !separator.containsKey(Constants.RULESET_CASING_SEPARATOR_CHAR)) {
-                    errors.add("Separator char must be present if allowLeading is specified.");
-                }
-
-                if (separator.containsKey(Constants.RULESET_CASING_SEPARATOR_CHAR) &&
-                        !(separator.get(Constants.RULESET_CASING_SEPARATOR_CHAR) instanceof String)) {
-                    errors.add("The '" + Constants.RULESET_CASING_SEPARATOR_CHAR +
-                            "' key in the '" + Constants.RULESET_CASING_SEPARATOR + "' option should be a string.");
-                }
-                if (separator.containsKey(Constants.RULESET_CASING_SEPARATOR_CHAR) &&
-                        separator.get(Constants.RULESET_CASING_SEPARATOR_CHAR) == null) {
-                    errors.add("Separator char should not be null");
-                    return errors;
-                }
-                if (separator.containsKey(Constants.RULESET_CASING_SEPARATOR_CHAR) &&
-                        ((String) separator.get(Constants.RULESET_CASING_SEPARATOR_CHAR)).length() > 1) {
-                    errors.add("Separator char is not a single character.");
-                }
-                if (separator.containsKey(Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING) &&
-                        !(separator.get(Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING) instanceof Boolean)) {
-                    errors.add("The '" + Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING +
-                            "' key in the '" + Constants.RULESET_CASING_SEPARATOR + "' option should be a boolean.");
-                }
-
-                for (String separatorKey : separator.keySet()) {
-                    if (!separatorKey.equals(Constants.RULESET_CASING_SEPARATOR_CHAR) &&
-                            !separatorKey.equals(Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING)) {
-                        errors.add("Invalid option in separator object: " + separatorKey);
-                    }
-                }
-            } else if (!entry.getKey().equals(Constants.RULESET_CASING_TYPE)) {
-                errors.add("Invalid function option for the casing function: " + entry.getKey());
-            }
-        }
-
-        return errors;
+        return new ArrayList<>(casingOptions.errors);
     }
 
     public FunctionResult executeFunction(LintTarget target) {
@@ -132,24 +75,16 @@ public class CasingFunction extends LintFunction {
             return new FunctionResult(true, null);
         }
 
-        boolean allowLeading = Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING_DEFAULT;
-        String separatorChar = "";
-        if (options.containsKey(Constants.RULESET_CASING_SEPARATOR)) {
-            Map<String, Object> separator = (Map<String, Object>) options.get(Constants.RULESET_CASING_SEPARATOR);
-            if (separator.containsKey(Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING)) {
-                allowLeading = (boolean) separator.get(Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING);
-            }
-            if (separator.containsKey(Constants.RULESET_CASING_SEPARATOR_CHAR)) {
-                separatorChar = separator.get(Constants.RULESET_CASING_SEPARATOR_CHAR).toString();
-            }
+        if (targetString.length() == 1 && casingMatcher.hasSeparator && casingMatcher.allowLeading &&
+                targetString.equals(casingMatcher.separatorChar)) {
+            return new FunctionResult(true, null);
         }
 
-        if (targetString.length() == 1 && options.containsKey(Constants.RULESET_CASING_SEPARATOR) && allowLeading &&
-                targetString.equals(separatorChar)) {
-            return new FunctionResult(true, null);
+        if (casingMatcher.patternSyntaxError != null) {
+            return new FunctionResult(false, "Invalid casing pattern: " + casingMatcher.patternSyntaxError);
         }
 
-        if (targetString.matches(getPattern(options))) {
+        if (casingMatcher.matches(targetString)) {
             return new FunctionResult(true, null);
         } else {
             return new FunctionResult(false, target.getTargetName() +
@@ -157,13 +92,9 @@ public class CasingFunction extends LintFunction {
         }
     }
 
-    private String getPattern(Map<String, Object> options) {
-        String baseCase = (String) options.get(Constants.RULESET_CASING_TYPE);
-
-        boolean allowdigits = true;
-        if (options.containsKey(Constants.RULESET_CASING_DISALLOW_DIGITS)) {
-            allowdigits = !(boolean) options.get(Constants.RULESET_CASING_DISALLOW_DIGITS);
-        }
+    static String getPattern(CasingOptions options) {
+        String baseCase = options.type;
+        boolean allowdigits = !options.disallowDigits;
 
         String basePattern;
 
@@ -187,23 +118,179 @@ public class CasingFunction extends LintFunction {
 
         String pattern = basePattern.replace("{__DIGITS__}", allowdigits ? digitPattern : "");
 
-        if (!options.containsKey(Constants.RULESET_CASING_SEPARATOR)) {
+        if (!options.hasSeparator) {
             return "^" + pattern + Constants.JSON_PATH_ROOT;
         }
 
-        Map<String, Object> separator = (Map<String, Object>) options.get(Constants.RULESET_CASING_SEPARATOR);
-        String separatorChar = null;
-        if (separator.containsKey(Constants.RULESET_CASING_SEPARATOR_CHAR)) {
-            separatorChar = separator.get(Constants.RULESET_CASING_SEPARATOR_CHAR).toString();
+        String separatorPattern = "[" + Pattern.quote(options.separatorChar) + "]";
+        String leadingSeparatorPattern = options.allowLeading ? separatorPattern + "?" : "";
+
+        return "^" + leadingSeparatorPattern + pattern + "(?:" + separatorPattern + pattern + ")*$";
+    }
+
+    /**
+     * Casing types that can be checked by scanning the characters of a value.
+     */
+    private enum Casing {
+        FLAT(false, false, false, NO_SEPARATOR),
+        CAMEL(false, false, true, NO_SEPARATOR),
+        PASCAL(true, false, true, NO_SEPARATOR),
+        KEBAB(false, false, false, '-'),
+        COBOL(true, true, false, '-'),
+        SNAKE(false, false, false, '_'),
+        MACRO(true, true, false, '_');
+
+        private final boolean upperCaseFirst;
+        private final boolean upperCaseWords;
+        private final boolean humps;
+        private final char wordSeparator;
+
+        Casing(boolean upperCaseFirst, boolean upperCaseWords, boolean humps, char wordSeparator) {
+            this.upperCaseFirst = upperCaseFirst;
+            this.upperCaseWords = upperCaseWords;
+            this.humps = humps;
+            this.wordSeparator = wordSeparator;
         }
-        boolean allowLeading = false;
-        if (separator.containsKey(Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING)) {
-            allowLeading = (boolean) separator.get(Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING);
+
+        private static Casing of(String type) {
+            switch (type) {
+                case "camel":
+                    return CAMEL;
+                case "pascal":
+                    return PASCAL;
+                case "kebab":
+                    return KEBAB;
+                case "cobol":
+                    return COBOL;
+                case "snake":
+                    return SNAKE;
+                case "macro":
+                    return MACRO;
+                default:
+                    return FLAT;
+            }
         }
+    }
 
-        String separatorPattern = separatorChar != null ? "[" + Pattern.quote(separatorChar) + "]" : "";
-        String leadingSeparatorPattern = allowLeading ? separatorPattern + "?" : "";
+    /**
+     * Matches values against the casing configured by the function options. Values are checked by scanning their
+     * characters, which gives the same result as the regex of the casing. The regex is only used when the separator
+     * character can also be part of a word, since a value can then be split into words in more than one way, and when
+     * the separator is not a single character.
+     */
+    private static final class CasingMatcher {
 
-        return "^" + leadingSeparatorPattern + pattern + "(?:" + separatorPattern + pattern + ")*$";
+        private final Casing casing;
+        private final boolean allowDigits;
+        private final boolean hasSeparator;
+        private final String separatorChar;
+        private final boolean allowLeading;
+        private final Pattern pattern;
+        private final String patternSyntaxError;
+
+        private CasingMatcher(CasingOptions options) {
+            String patternString = getPattern(options);
+            this.casing = Casing.of(options.type);
+            this.allowDigits = !options.disallowDigits;
+            this.hasSeparator = options.hasSeparator;
+            this.separatorChar = options.separatorChar;
+            this.allowLeading = options.allowLeading;
+
+            boolean scannable = !hasSeparator || (separatorChar.length() == 1 &&
+                    !isWordCharacter(separatorChar.charAt(0)) && separatorChar.charAt(0) != casing.wordSeparator);
+            Pattern compiledPattern = null;
+            String syntaxError = null;
+            if (!scannable) {
+                try {
+                    compiledPattern = Pattern.compile(patternString);
+                } catch (PatternSyntaxException e) {
+                    // An empty separator character gives an empty character class
+                    syntaxError = e.getMessage();
+                }
+            }
+            this.pattern = compiledPattern;
+            this.patternSyntaxError = syntaxError;
+        }
+
+        private boolean matches(String value) {
+            if (pattern != null) {
+                return pattern.matcher(value).matches();
+            }
+            int length = value.length();
+            int position = 0;
+            if (hasSeparator && allowLeading && value.charAt(0) == separatorChar.charAt(0)) {
+                position++;
+            }
+            while (true) {
+                position = scanWord(value, position);
+                if (position < 0) {
+                    return false;
+                }
+                if (position == length) {
+                    return true;
+                }
+                if (!hasSeparator || value.charAt(position) != separatorChar.charAt(0)) {
+                    return false;
+                }
+                position++;
+            }
+        }
+
+        /**
+         * Scans a word starting at the given position.
+         *
+         * @return position after the word, or -1 if the value cannot match the casing
+         */
+        private int scanWord(String value, int start) {
+            int length = value.length();
+            if (start >= length) {
+                return -1;
+            }
+            char first = value.charAt(start);
+            if (casing.upperCaseFirst ? !isUpperCase(first) : !isLowerCase(first)) {
+                return -1;
+            }
+            int position = start + 1;
+            while (position < length) {
+                char c = value.charAt(position);
+                if (isWordPart(c)) {
+                    position++;
+                } else if (casing.humps && isUpperCase(c)) {
+                    // A hump is followed by a lower case letter or digit, unless it ends the value
+                    if (position + 1 < length && !isWordPart(value.charAt(position + 1))) {
+                        return -1;
+                    }
+                    position++;
+                } else if (casing.wordSeparator != NO_SEPARATOR && c == casing.wordSeparator) {
+                    if (position + 1 >= length || !isWordPart(value.charAt(position + 1))) {
+                        return -1;
+                    }
+                    position += 2;
+                } else {
+                    break;
+                }
+            }
+            return position;
+        }
+
+        private boolean isWordPart(char c) {
+            return (casing.upperCaseWords ? isUpperCase(c) : isLowerCase(c)) || (allowDigits && isDigit(c));
+        }
+
+        private static boolean isWordCharacter(char c) {
+            return isLowerCase(c) || isUpperCase(c) || isDigit(c);
+        }
+
+        private static boolean isLowerCase(char c) {
+            return c >= 'a' && c <= 'z';
+        }
+
+        private static boolean isUpperCase(char c) {
+            return c >= 'A' && c <= 'Z';
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
     }
 }
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.rule.validator.functions.core;
+
+import org.wso2.rule.validator.Constants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Options of the casing function, parsed from the function options of a rule.
+ */
+final class CasingOptions {
+
+    /**
+     * Casing type as given in the options. Types other than the casing types, including types that are not strings,
+     * are checked as flat case.
+     */
+    final String type;
+    final boolean disallowDigits;
+    final boolean hasSeparator;
+    /**
+     * Separator character, or an empty string if there is no separator character.
+     */
+    final String separatorChar;
+    final boolean allowLeading;
+    final List<String> errors;
+
+    private CasingOptions(String type, boolean disallowDigits, boolean hasSeparator, String separatorChar,
+                          boolean allowLeading, List<String> errors) {
+        this.type = type;
+        this.disallowDigits = disallowDigits;
+        this.hasSeparator = hasSeparator;
+        this.separatorChar = separatorChar;
+        this.allowLeading = allowLeading;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    static CasingOptions parse(Map<String, Object> options) {
+        List<String> errors = new ArrayList<>();
+
+        if (options == null) {
+            errors.add("At least the casing type should be specified in functionOptions in the 'casing' function.");
+            return new CasingOptions(null, false, false, "", false, errors);
+        }
+
+        // required options
+        if (!options.containsKey(Constants.RULESET_CASING_TYPE)) {
+            errors.add("The '" + Constants.RULESET_CASING_TYPE + "' option is required for the 'casing' function.");
+        }
+        String type = String.valueOf(options.get(Constants.RULESET_CASING_TYPE));
+
+        // optional options
+        boolean disallowDigits = false;
+        boolean hasSeparator = false;
+        String separatorChar = "";
+        boolean allowLeading = Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING_DEFAULT;
+        for (Map.Entry<String, Object> entry : options.entrySet()) {
+            if (entry.getKey().equals(Constants.RULESET_CASING_DISALLOW_DIGITS)) {
+                if (entry.getValue() instanceof Boolean) {
+                    disallowDigits = (Boolean) entry.getValue();
+                } else {
+                    errors.add("The '" + Constants.RULESET_CASING_DISALLOW_DIGITS + "' option should be a boolean.");
+                }
+            } else if (entry.getKey().equals(Constants.RULESET_CASING_SEPARATOR)) {
+                if (!(entry.getValue() instanceof Map)) {
+                    errors.add("The '" + Constants.RULESET_CASING_SEPARATOR + "' option should be a map.");
+                    continue;
+                }
+                hasSeparator = true;
+
+                Map<String, Object> separator = (Map<String, Object>) entry.getValue();
+                boolean hasChar = separator.containsKey(Constants.RULESET_CASING_SEPARATOR_CHAR);
+                boolean hasAllowLeading = separator.containsKey(Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING);
+
+                if (!hasChar && !hasAllowLeading) {
+                    errors.add("The separator object should not be empty if it is defined.");
+                }
+
+                if (hasAllowLeading && !hasChar) {
+                    errors.add("Separator char must be present if allowLeading is specified.");
+                }
+
+                Object separatorValue = separator.get(Constants.RULESET_CASING_SEPARATOR_CHAR);
+                if (hasChar && !(separatorValue instanceof String)) {
+                    errors.add("The '" + Constants.RULESET_CASING_SEPARATOR_CHAR +
+                            "' key in the '" + Constants.RULESET_CASING_SEPARATOR + "' option should be a string.");
+                }
+                if (hasChar && separatorValue == null) {
+                    errors.add("Separator char should not be null");
+                    return new CasingOptions(type, disallowDigits, hasSeparator, separatorChar, allowLeading, errors);
+                }
+                if (separatorValue instanceof String) {
+                    separatorChar = (String) separatorValue;
+                    if (separatorChar.length() > 1) {
+                        errors.add("Separator char is not a single character.");
+                    }
+                }
+
+                Object allowLeadingValue = separator.get(Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING);
+                if (allowLeadingValue instanceof Boolean) {
+                    allowLeading = (Boolean) allowLeadingValue;
+                } else if (hasAllowLeading) {
+                    errors.add("The '" + Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING +
+                            "' key in the '" + Constants.RULESET_CASING_SEPARATOR + "' option should be a boolean.");
+                }
+
+                for (String separatorKey : separator.keySet()) {
+                    if (!separatorKey.equals(Constants.RULESET_CASING_SEPARATOR_CHAR) &&
+                            !separatorKey.equals(Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING)) {
+                        errors.add("Invalid option in separator object: " + separatorKey);
+                    }
+                }
+            } else if (!entry.getKey().equals(Constants.RULESET_CASING_TYPE)) {
+                errors.add("Invalid function option for the casing function: " + entry.getKey());
+            }
+        }
+
+        return new CasingOptions(type, disallowDigits, hasSeparator, separatorChar, allowLeading, errors);
+    }
+}
@@ -17,7 +17,6 @@
  */
 package org.wso2.rule.validator.functions.core;
 
-import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.document.LintTarget;
 import org.wso2.rule.validator.functions.FunctionName;
 import org.wso2.rule.validator.functions.FunctionResult;
@@ -33,55 +32,33 @@ import java.util.Map;
 @FunctionName("enumeration")
 public class EnumerationFunction extends LintFunction {
 
+    private final EnumerationOptions enumerationOptions;
+
     public EnumerationFunction(Map<String, Object> options) {
         super(options);
+        this.enumerationOptions = EnumerationOptions.parse(this.options);
     }
 
     @Override
     public List<String> validateFunctionOptions() {
-        List<String> errors = new ArrayList<>();
-
-        if (options == null) {
-            errors.add("Enumeration function requires the set of values.");
-            return errors;
-        }
-
-        if (!options.containsKey(Constants.RULESET_ENUMERATION_VALUES)) {
-            errors.add("Enumeration function requires the set of values.");
-            return errors;
-        }
-
-        if (!(options.get(Constants.RULESET_ENUMERATION_VALUES) instanceof List)) {
-            errors.add("Enumeration function values options needs to be a list");
-            return errors;
-        }
-
-        List<Object> values = (List<Object>) options.get(Constants.RULESET_ENUMERATION_VALUES);
-        if (values.size() == 0) {
-            errors.add("Enumeration function values options cannot be empty");
-            return errors;
-        }
-
-        for (String option : options.keySet()) {
-            if (!option.equals(Constants.RULESET_ENUMERATION_VALUES)) {
-                errors.add("Enumeration function does not support option: " + option);
-            }
-        }
-
-        return errors;
+        return new ArrayList<>(enumerationOptions.errors);
     }
 
     public FunctionResult executeFunction(LintTarget target) {
-        List<String> values = (List<String>) options.get(Constants.RULESET_ENUMERATION_VALUES);
-
-        if (!(target.value instanceof Integer) && !(target.value instanceof String)) {
+        boolean found;
+        if (target.value instanceof String) {
+            found = enumerationOptions.stringValues.contains(target.value);
+        } else if (EnumerationOptions.isIntegral(target.value)) {
+            found = enumerationOptions.integralValues.contains(
+                    EnumerationOptions.normalizeIntegral((Number) target.value));
+        } else if (target.value instanceof Boolean) {
+            found = (Boolean) target.value ? enumerationOptions.allowsTrue : enumerationOptions.allowsFalse;
+        } else {
             return new FunctionResult(true, null);
         }
 
-        for (String value : values) {
-            if (target.value.equals(value)) {
-                return new FunctionResult(true, null);
-            }
+        if (found) {
+            return new FunctionResult(true, null);
         }
         return new FunctionResult(false, "Value '" + target.value + "' is not in the enumeration.");
     }
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.rule.validator.functions.core;
+
+import org.wso2.rule.validator.Constants;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Options of the enumeration function, parsed from the function options of a rule. The values of the enumeration are
+ * indexed by type, so that a value is looked up instead of compared with every value of the enumeration.
+ */
+final class EnumerationOptions {
+
+    final Set<String> stringValues;
+    /**
+     * Integral values of the enumeration, as given by {@link #normalizeIntegral(Number)}.
+     */
+    final Set<Object> integralValues;
+    final boolean allowsTrue;
+    final boolean allowsFalse;
+    final List<String> errors;
+
+    private EnumerationOptions(Set<String> stringValues, Set<Object> integralValues, boolean allowsTrue,
+                               boolean allowsFalse, List<String> errors) {
+        this.stringValues = Collections.unmodifiableSet(stringValues);
+        this.integralValues = Collections.unmodifiableSet(integralValues);
+        this.allowsTrue = allowsTrue;
+        this.allowsFalse = allowsFalse;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    static EnumerationOptions parse(Map<String, Object> options) {
+        Set<String> stringValues = new HashSet<>();
+        Set<Object> integralValues = new HashSet<>();
+        List<String> errors = new ArrayList<>();
+
+        if (options == null || !options.containsKey(Constants.RULESET_ENUMERATION_VALUES)) {
+            errors.add("Enumeration function requires the set of values.");
+            return new EnumerationOptions(stringValues, integralValues, false, false, errors);
+        }
+
+        if (!(options.get(Constants.RULESET_ENUMERATION_VALUES) instanceof List)) {
+            errors.add("Enumeration function values options needs to be a list");
+            return new EnumerationOptions(stringValues, integralValues, false, false, errors);
+        }
+
+        List<Object> values = (List<Object>) options.get(Constants.RULESET_ENUMERATION_VALUES);
+        if (values.isEmpty()) {
+            errors.add("Enumeration function values options cannot be empty");
+            return new EnumerationOptions(stringValues, integralValues, false, false, errors);
+        }
+
+        boolean allowsTrue = false;
+        boolean allowsFalse = false;
+        for (Object value : values) {
+            if (value instanceof String) {
+                stringValues.add((String) value);
+            } else if (isIntegral(value)) {
+                integralValues.add(normalizeIntegral((Number) value));
+            } else if (value instanceof Boolean) {
+                allowsTrue |= (Boolean) value;
+                allowsFalse |= !(Boolean) value;
+            }
+        }
+
+        for (String option : options.keySet()) {
+            if (!option.equals(Constants.RULESET_ENUMERATION_VALUES)) {
+                errors.add("Enumeration function does not support option: " + option);
+            }
+        }
+
+        return new EnumerationOptions(stringValues, integralValues, allowsTrue, allowsFalse, errors);
+    }
+
+    static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte ||
+                value instanceof BigInteger;
+    }
+
+    /**
+     * Returns the same key for equal integers of any type. Integers that do not fit in a long are kept as they are.
+     */
+    static Object normalizeIntegral(Number value) {
+        if (value instanceof BigInteger && ((BigInteger) value).bitLength() >= Long.SIZE) {
+            return value;
+        }
+        return value.longValue();
+    }
+}
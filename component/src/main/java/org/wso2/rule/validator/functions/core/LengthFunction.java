@@ -17,7 +17,6 @@
  */
 package org.wso2.rule.validator.functions.core;
 
-import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.document.LintTarget;
 import org.wso2.rule.validator.functions.FunctionName;
 import org.wso2.rule.validator.functions.FunctionResult;
@@ -33,43 +32,20 @@ import java.util.Map;
 @FunctionName("length")
 public class LengthFunction extends LintFunction {
 
+    private final LengthOptions lengthOptions;
+
     public LengthFunction(Map<String, Object> options) {
         super(options);
+        this.lengthOptions = LengthOptions.parse(this.options);
     }
 
     @Override
     public List<String> validateFunctionOptions() {
-        List<String> errors = new ArrayList<>();
-
-        if (options == null) {
-            errors.add("Length function requires at least a min or a max value.");
-            return errors;
-        }
-
-        if (!options.containsKey(Constants.RULESET_LENGTH_MIN) && !options.containsKey(Constants.RULESET_LENGTH_MAX)) {
-            errors.add("Length function requires at least a min or a max value.");
-            return errors;
-        }
-
-        if (options.containsKey(Constants.RULESET_LENGTH_MIN) &&
-                !(options.get(Constants.RULESET_LENGTH_MIN) instanceof Integer ||
-                options.get(Constants.RULESET_LENGTH_MIN) instanceof Float ||
-                options.get(Constants.RULESET_LENGTH_MIN) instanceof Double)) {
-                    errors.add("Length function min value should be a number.");
-        }
-
-        if (options.containsKey(Constants.RULESET_LENGTH_MAX) &&
-                !(options.get(Constants.RULESET_LENGTH_MAX) instanceof Integer ||
-                options.get(Constants.RULESET_LENGTH_MAX) instanceof Float ||
-                options.get(Constants.RULESET_LENGTH_MAX) instanceof Double)) {
-                    errors.add("Length function max value should be a number.");
-        }
-
-        return errors;
+        return new ArrayList<>(lengthOptions.errors);
     }
 
     public FunctionResult executeFunction(LintTarget target) {
-        Number length;
+        double length;
 
         if (target.value instanceof String) {
             length = ((String) target.value).length();
@@ -79,34 +55,30 @@ public class LengthFunction extends LintFunction {
             length = ((Map) target.value).size();
         } else if (target.value instanceof Integer || target.value instanceof Float ||
                    target.value instanceof Double) {
-            length = (Number) target.value;
+            length = ((Number) target.value).doubleValue();
         } else {
             // Following Stoplight Spectral's logic
             return new FunctionResult(true, null);
         }
 
-        if (options.containsKey(Constants.RULESET_LENGTH_MIN) && options.containsKey(Constants.RULESET_LENGTH_MAX)) {
-            Number min = (Number) options.get(Constants.RULESET_LENGTH_MIN);
-            Number max = (Number) options.get(Constants.RULESET_LENGTH_MAX);
-
-            if (length.doubleValue() >= min.doubleValue() && length.doubleValue() <= max.doubleValue()) {
+        if (lengthOptions.min != null && lengthOptions.max != null) {
+            if (length >= lengthOptions.minValue && length <= lengthOptions.maxValue) {
                 return new FunctionResult(true, null);
             } else {
-                return new FunctionResult(false, "Length should be between " + min + " and " + max);
+                return new FunctionResult(false,
+                        "Length should be between " + lengthOptions.min + " and " + lengthOptions.max);
             }
-        } else  if (options.containsKey(Constants.RULESET_LENGTH_MIN)) {
-            Number min = (Number) options.get(Constants.RULESET_LENGTH_MIN);
-            if (length.doubleValue() >= min.doubleValue()) {
+        } else if (lengthOptions.min != null) {
+            if (length >= lengthOptions.minValue) {
                 return new FunctionResult(true, null);
             } else {
-                return new FunctionResult(false, "Length should be at least " + min);
+                return new FunctionResult(false, "Length should be at least " + lengthOptions.min);
             }
-        } else if (options.containsKey(Constants.RULESET_LENGTH_MAX)) {
-            Number max = (Number) options.get(Constants.RULESET_LENGTH_MAX);
-            if (length.doubleValue() <= max.doubleValue()) {
+        } else if (lengthOptions.max != null) {
+            if (length <= lengthOptions.maxValue) {
                 return new FunctionResult(true, null);
             } else {
-                return new FunctionResult(false, "Length should be at most " + max);
+                return new FunctionResult(false, "Length should be at most " + lengthOptions.max);
             }
         } else {
             return new FunctionResult(false, "Length function requires at least a min or a max value.");
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.rule.validator.functions.core;
+
+import org.wso2.rule.validator.Constants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Options of the length function, parsed from the function options of a rule.
+ */
+final class LengthOptions {
+
+    /**
+     * Lower limit as given in the options, or null if there is no lower limit.
+     */
+    final Number min;
+    /**
+     * Upper limit as given in the options, or null if there is no upper limit.
+     */
+    final Number max;
+    final double minValue;
+    final double maxValue;
+    final List<String> errors;
+
+    private LengthOptions(Number min, Number max, List<String> errors) {
+        this.min = min;
+        this.max = max;
+        this.minValue = min != null ? min.doubleValue() : Double.NEGATIVE_INFINITY;
+        this.maxValue = max != null ? max.doubleValue() : Double.POSITIVE_INFINITY;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    static LengthOptions parse(Map<String, Object> options) {
+        List<String> errors = new ArrayList<>();
+
+        if (options == null || (!options.containsKey(Constants.RULESET_LENGTH_MIN) &&
+                !options.containsKey(Constants.RULESET_LENGTH_MAX))) {
+            errors.add("Length function requires at least a min or a max value.");
+            return new LengthOptions(null, null, errors);
+        }
+
+        Number min = parseLimit(options, Constants.RULESET_LENGTH_MIN, errors);
+        Number max = parseLimit(options, Constants.RULESET_LENGTH_MAX, errors);
+        return new LengthOptions(min, max, errors);
+    }
+
+    private static Number parseLimit(Map<String, Object> options, String optionName, List<String> errors) {
+        if (!options.containsKey(optionName)) {
+            return null;
+        }
+        Object limit = options.get(optionName);
+        if (!(limit instanceof Integer || limit instanceof Float || limit instanceof Double)) {
+            errors.add("Length function " + optionName + " value should be a number.");
+            return null;
+        }
+        return (Number) limit;
+    }
+}
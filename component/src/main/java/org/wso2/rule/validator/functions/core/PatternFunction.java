@@ -27,9 +27,7 @@ import org.wso2.rule.validator.utils.Util;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 
 /**
  * Pattern function implementation
@@ -37,188 +35,61 @@ import java.util.regex.PatternSyntaxException;
 @FunctionName("pattern")
 public class PatternFunction extends LintFunction {
 
+    private final PatternOptions patternOptions;
+
     public PatternFunction(Map<String, Object> options) {
         super(options);
-    }
-
-    private static class PatternAndFlags {
-        public String pattern;
-        public String flags;
-
-        public PatternAndFlags(String pattern, String flags) {
-            this.pattern = pattern;
-            this.flags = flags;
-        }
+        this.patternOptions = PatternOptions.parse(this.options);
     }
 
     @Override
     public List<String> validateFunctionOptions() {
-        List<String> errors = new ArrayList<>();
-
-        if (options == null) {
-            errors.add("Pattern function requires a regex pattern");
-            return errors;
-        }
-
-        if (!options.containsKey(Constants.RULESET_PATTERN_MATCH) &&
-                !options.containsKey(Constants.RULESET_PATTERN_NOT_MATCH)) {
-            errors.add("Pattern function requires either match or notMatch options");
-            return errors;
-        }
-
-        if (options.containsKey(Constants.RULESET_PATTERN_MATCH) &&
-                !(options.get(Constants.RULESET_PATTERN_MATCH) instanceof String)) {
-            errors.add("Pattern function match option must be a string.");
-            return errors;
-        }
-
-        if (options.containsKey(Constants.RULESET_PATTERN_NOT_MATCH) &&
-                !(options.get(Constants.RULESET_PATTERN_NOT_MATCH) instanceof String)) {
-            errors.add("Pattern function notMatch option must be a string.");
-            return errors;
-        }
-
-        if (options.containsKey(Constants.RULESET_PATTERN_MATCH) &&
-                !isValidRegex((String) options.get(Constants.RULESET_PATTERN_MATCH))) {
-            errors.add("Pattern function match option is not a valid regex pattern.");
-            return errors;
-        }
-
-        if (options.containsKey(Constants.RULESET_PATTERN_NOT_MATCH) &&
-                !isValidRegex((String) options.get(Constants.RULESET_PATTERN_NOT_MATCH))) {
-            errors.add("Pattern function notMatch option is not a valid regex pattern.");
-            return errors;
-        }
-
-        if (options.containsKey(Constants.RULESET_PATTERN_MATCH)) {
-            PatternAndFlags patternAndFlags = extractPatternAndFlags(
-                    (String) options.get(Constants.RULESET_PATTERN_MATCH));
-            if (getFlagsFromFlagString(patternAndFlags.flags) == -1) {
-                errors.add("Pattern function match option contains invalid flags.");
-                return errors;
-            }
-        }
-
-        if (options.containsKey(Constants.RULESET_PATTERN_NOT_MATCH)) {
-            PatternAndFlags patternAndFlags = extractPatternAndFlags(
-                    (String) options.get(Constants.RULESET_PATTERN_NOT_MATCH));
-            if (getFlagsFromFlagString(patternAndFlags.flags) == -1) {
-                errors.add("Pattern function notMatch option contains invalid flags.");
-                return errors;
-            }
-        }
-
-        return errors;
-    }
-
-    private boolean isValidRegex(String regex) {
-        try {
-            Pattern.compile(regex);
-            return true;
-        } catch (PatternSyntaxException e) {
-            return false;
-        }
-    }
-
-    private PatternAndFlags extractPatternAndFlags(String regex) {
-        String pattern = regex;
-        String flags = "";
-        if (regex.startsWith("/") && regex.lastIndexOf("/") > 0) {
-            int lastSlash = regex.lastIndexOf('/');
-            pattern = regex.substring(1, lastSlash);
-            flags = regex.substring(lastSlash + 1);
-
-            // Double escape the backslashes
-            pattern = pattern.replace("\\", "\\\\");
-        }
-        return new PatternAndFlags(pattern, flags);
-    }
-
-    private int getFlagsFromFlagString(String flags) {
-        int flag = 0;
-
-        if (flags.trim().isEmpty()) {
-            return flag;
-        }
-
-        if (flags.contains("i")) {
-            flag |= Pattern.CASE_INSENSITIVE;
-        }
-        if (flags.contains("u")) {
-            flag |= Pattern.UNICODE_CASE;
-        }
-        if (flags.contains("m")) {
-            flag |= Pattern.MULTILINE;
-        }
-        if (flags.contains("s")) {
-            flag |= Pattern.DOTALL;
-        }
-        if (flags.contains("d")) {
-            flag |= Pattern.UNIX_LINES;
-        }
-
-        if (!flags.matches("[iumsdgy]+")) {
-            return -1;
-        }
-
-        return flag;
-    }
-
-    private boolean matches(String value, PatternAndFlags patternAndFlags) {
-
-        int flags = getFlagsFromFlagString(patternAndFlags.flags);
-
-        Pattern pattern = Pattern.compile(patternAndFlags.pattern, flags);
-        Matcher matcher = pattern.matcher(value);
-        return matcher.find();
+        return new ArrayList<>(patternOptions.errors);
     }
 
     public FunctionResult executeFunction(LintTarget target) {
-        Object match = options.get(Constants.RULESET_PATTERN_MATCH);
-        Object notMatch = options.get(Constants.RULESET_PATTERN_NOT_MATCH);
-
         if (target.value == null) {
             return new FunctionResult(true, null);
         }
         if (!(target.value instanceof String)) {
             return new FunctionResult(true, null);
         }
+        if (patternOptions.patternSyntaxError != null) {
+            return new FunctionResult(false, "Invalid regex pattern: " + patternOptions.patternSyntaxError);
+        }
+
+        Pattern matchPattern = patternOptions.matchPattern;
+        Pattern notMatchPattern = patternOptions.notMatchPattern;
 
         boolean matchResult = false;
         boolean notMatchResult = false;
 
-        try {
-            if (match != null) {
-                PatternAndFlags matchPatternAndFlags = extractPatternAndFlags((String) match);
-                boolean result = matches((String) target.value, matchPatternAndFlags);
-                if (notMatch == null) {
-                    if (result) {
-                        return new FunctionResult(true, null);
-                    } else {
-                        return new FunctionResult(false, target.getTargetName() + " does not match the pattern");
-                    }
+        if (matchPattern != null) {
+            boolean result = matchPattern.matcher((String) target.value).find();
+            if (notMatchPattern == null) {
+                if (result) {
+                    return new FunctionResult(true, null);
+                } else {
+                    return new FunctionResult(false, target.getTargetName() + " does not match the pattern");
                 }
-                matchResult = result;
             }
-            if (notMatch != null) {
-                PatternAndFlags notMatchPatternAndFlags = extractPatternAndFlags((String) notMatch);
-                boolean result = !matches((String) target.value, notMatchPatternAndFlags);
-                if (match == null) {
-                    if (result) {
-                        return new FunctionResult(true, null);
-                    } else {
-                        return new FunctionResult(false, target.getTargetName() + " matches the pattern");
-                    }
+            matchResult = result;
+        }
+        if (notMatchPattern != null) {
+            boolean result = !notMatchPattern.matcher((String) target.value).find();
+            if (matchPattern == null) {
+                if (result) {
+                    return new FunctionResult(true, null);
+                } else {
+                    return new FunctionResult(false, target.getTargetName() + " matches the pattern");
                 }
-                notMatchResult = result;
             }
-            if (matchResult && notMatchResult) {
-                return new FunctionResult(true, null);
-            } else {
-                return new FunctionResult(false, target.getTargetName() + " does not match the pattern");
-            }
-        } catch (PatternSyntaxException e) {
-            return new FunctionResult(false, "Invalid regex pattern: " + e.getMessage());
+            notMatchResult = result;
+        }
+        if (matchResult && notMatchResult) {
+            return new FunctionResult(true, null);
+        } else {
+            return new FunctionResult(false, target.getTargetName() + " does not match the pattern");
         }
     }
 
@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.rule.validator.functions.core;
+
+import org.wso2.rule.validator.Constants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Options of the pattern function, parsed from the function options of a rule after the function has processed them.
+ */
+final class PatternOptions {
+
+    private static final Pattern FLAGS_PATTERN = Pattern.compile("[iumsdgy]+");
+
+    /**
+     * Pattern that a value should match, or null if there is none.
+     */
+    final Pattern matchPattern;
+    /**
+     * Pattern that a value should not match, or null if there is none.
+     */
+    final Pattern notMatchPattern;
+    /**
+     * Error of a pattern that is a valid regex as given, but not once its flags are taken out, or null if the patterns
+     * compiled.
+     */
+    final String patternSyntaxError;
+    final List<String> errors;
+
+    private PatternOptions(Pattern matchPattern, Pattern notMatchPattern, String patternSyntaxError,
+                           List<String> errors) {
+        this.matchPattern = matchPattern;
+        this.notMatchPattern = notMatchPattern;
+        this.patternSyntaxError = patternSyntaxError;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    private static PatternOptions invalid(String error) {
+        List<String> errors = new ArrayList<>();
+        errors.add(error);
+        return new PatternOptions(null, null, null, errors);
+    }
+
+    static PatternOptions parse(Map<String, Object> options) {
+        if (options == null) {
+            return invalid("Pattern function requires a regex pattern");
+        }
+
+        boolean hasMatch = options.containsKey(Constants.RULESET_PATTERN_MATCH);
+        boolean hasNotMatch = options.containsKey(Constants.RULESET_PATTERN_NOT_MATCH);
+        if (!hasMatch && !hasNotMatch) {
+            return invalid("Pattern function requires either match or notMatch options");
+        }
+
+        Object match = options.get(Constants.RULESET_PATTERN_MATCH);
+        Object notMatch = options.get(Constants.RULESET_PATTERN_NOT_MATCH);
+        if (hasMatch && !(match instanceof String)) {
+            return invalid("Pattern function match option must be a string.");
+        }
+        if (hasNotMatch && !(notMatch instanceof String)) {
+            return invalid("Pattern function notMatch option must be a string.");
+        }
+
+        if (hasMatch && !isValidRegex((String) match)) {
+            return invalid("Pattern function match option is not a valid regex pattern.");
+        }
+        if (hasNotMatch && !isValidRegex((String) notMatch)) {
+            return invalid("Pattern function notMatch option is not a valid regex pattern.");
+        }
+
+        PatternAndFlags matchAndFlags = hasMatch ? extractPatternAndFlags((String) match) : null;
+        if (matchAndFlags != null && getFlagsFromFlagString(matchAndFlags.flags) == -1) {
+            return invalid("Pattern function match option contains invalid flags.");
+        }
+        PatternAndFlags notMatchAndFlags = hasNotMatch ? extractPatternAndFlags((String) notMatch) : null;
+        if (notMatchAndFlags != null && getFlagsFromFlagString(notMatchAndFlags.flags) == -1) {
+            return invalid("Pattern function notMatch option contains invalid flags.");
+        }
+
+        Pattern matchPattern = null;
+        Pattern notMatchPattern = null;
+        String patternSyntaxError = null;
+        try {
+            matchPattern = compile(matchAndFlags);
+            notMatchPattern = compile(notMatchAndFlags);
+        } catch (PatternSyntaxException e) {
+            patternSyntaxError = e.getMessage();
+        }
+        return new PatternOptions(matchPattern, notMatchPattern, patternSyntaxError, new ArrayList<>());
+    }
+
+    private static class PatternAndFlags {
+        public String pattern;
+        public String flags;
+
+        public PatternAndFlags(String pattern, String flags) {
+            this.pattern = pattern;
+            this.flags = flags;
+        }
+    }
+
+    private static boolean isValidRegex(String regex) {
+        try {
+            Pattern.compile(regex);
+            return true;
+        } catch (PatternSyntaxException e) {
+            return false;
+        }
+    }
+
+    private static PatternAndFlags extractPatternAndFlags(String regex) {
+        String pattern = regex;
+        String flags = "";
+        if (regex.startsWith("/") && regex.lastIndexOf("/") > 0) {
+            int lastSlash = regex.lastIndexOf('/');
+            pattern = regex.substring(1, lastSlash);
+            flags = regex.substring(lastSlash + 1);
+
+            // Double escape the backslashes
+            pattern = pattern.replace("\\", "\\\\");
+        }
+        return new PatternAndFlags(pattern, flags);
+    }
+
+    private static int getFlagsFromFlagString(String flags) {
+        int flag = 0;
+
+        if (flags.trim().isEmpty()) {
+            return flag;
+        }
+
+        if (flags.contains("i")) {
+            flag |= Pattern.CASE_INSENSITIVE;
+        }
+        if (flags.contains("u")) {
+            flag |= Pattern.UNICODE_CASE;
+        }
+        if (flags.contains("m")) {
+            flag |= Pattern.MULTILINE;
+        }
+        if (flags.contains("s")) {
+            flag |= Pattern.DOTALL;
+        }
+        if (flags.contains("d")) {
+            flag |= Pattern.UNIX_LINES;
+        }
+
+        if (!FLAGS_PATTERN.matcher(flags).matches()) {
+            return -1;
+        }
+
+        return flag;
+    }
+
+    private static Pattern compile(PatternAndFlags patternAndFlags) {
+        if (patternAndFlags == null) {
+            return null;
+        }
+        return Pattern.compile(patternAndFlags.pattern, getFlagsFromFlagString(patternAndFlags.flags));
+    }
+}
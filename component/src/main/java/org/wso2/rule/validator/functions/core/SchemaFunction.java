@@ -18,18 +18,15 @@
 package org.wso2.rule.validator.functions.core;
 
 import com.google.gson.Gson;
-import org.everit.json.schema.loader.SchemaLoader;
+import org.everit.json.schema.Schema;
 import org.json.JSONArray;
 import org.json.JSONObject;
-import org.json.JSONTokener;
-import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.document.LintTarget;
 import org.wso2.rule.validator.functions.FunctionName;
 import org.wso2.rule.validator.functions.FunctionResult;
 import org.wso2.rule.validator.functions.LintFunction;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -39,64 +36,23 @@ import java.util.Map;
 @FunctionName("schema")
 public class SchemaFunction extends LintFunction {
 
+    private static final Gson GSON = new Gson();
+
+    private final SchemaOptions schemaOptions;
+
     public SchemaFunction(Map<String, Object> options) {
         super(options);
+        this.schemaOptions = SchemaOptions.parse(this.options);
     }
 
     @Override
     public List<String> validateFunctionOptions() {
-        List<String> errors = new ArrayList<>();
-
-        if (options == null) {
-            errors.add("Schema function should at least contain the schema option.");
-            return errors;
-        }
-
-        if (!options.containsKey(Constants.RULESET_SCHEMA_SCHEMA)) {
-            errors.add("Schema function should contain the schema option.");
-        }
-
-        if (options.containsKey(Constants.RULESET_SCHEMA_SCHEMA)) {
-            String schema = new Gson().toJson(options.get(Constants.RULESET_SCHEMA_SCHEMA));
-            if (!isValidSchema(schema)) {
-                errors.add("Schema function should contain a valid JSON schema.");
-            }
-        }
-
-        if (options.containsKey(Constants.RULESET_SCHEMA_DIALECT)) {
-            if (!(options.get(Constants.RULESET_SCHEMA_DIALECT) instanceof String)) {
-                errors.add("Schema function should contain a string value for the dialect option.");
-            } else {
-                String dialect = (String) options.get(Constants.RULESET_SCHEMA_DIALECT);
-                List<String> dialects = new ArrayList<>(Arrays.asList(
-                        "auto", "draft4", "draft6", "draft7", "draft2019-09", "draft2020-12"));
-                if (!dialects.contains(dialect)) {
-                    errors.add("Schema function should contain a valid JSON schema dialect.");
-                }
-            }
-        }
-
-        if (options.containsKey(Constants.RULESET_SCHEMA_ALL_ERRORS) &&
-                !(options.get(Constants.RULESET_SCHEMA_ALL_ERRORS) instanceof Boolean)) {
-            errors.add("Schema function should contain a boolean value for the allErrors option.");
-        }
-
-        return errors;
-    }
-
-    private boolean isValidSchema(String jsonSchemaString) {
-        try {
-            JSONObject rawSchema = new JSONObject(new JSONTokener(jsonSchemaString));
-            SchemaLoader.load(rawSchema);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return new ArrayList<>(schemaOptions.errors);
     }
 
     public FunctionResult executeFunction(LintTarget target) {
 
-        String targetString = new Gson().toJson(target.value);
+        String targetString = GSON.toJson(target.value);
         JSONArray targetArray = null;
         JSONObject targetObject = null;
         if (targetString.startsWith("[")) {
@@ -107,16 +63,12 @@ public class SchemaFunction extends LintFunction {
             return new FunctionResult(false, "Invalid target object.");
         }
 
-
-        String schema = new Gson().toJson(options.get(Constants.RULESET_SCHEMA_SCHEMA));
-        JSONObject schemaObject = new JSONObject(schema);
-        org.everit.json.schema.Schema everitSchema = SchemaLoader.load(schemaObject);
-
+        Schema schema = schemaOptions.schema;
         try {
             if (targetObject != null) {
-                everitSchema.validate(targetObject);
+                schema.validate(targetObject);
             } else {
-                everitSchema.validate(targetArray);
+                schema.validate(targetArray);
             }
         } catch (org.everit.json.schema.ValidationException e) {
             return new FunctionResult(false, e.getMessage());
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.rule.validator.functions.core;
+
+import com.google.gson.Gson;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.wso2.rule.validator.Constants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Options of the schema function, parsed from the function options of a rule.
+ */
+final class SchemaOptions {
+
+    private static final int MAXIMUM_CACHED_SCHEMAS = 256;
+
+    private static final Gson GSON = new Gson();
+
+    private static final List<String> DIALECTS = Collections.unmodifiableList(Arrays.asList(
+            "auto", "draft4", "draft6", "draft7", "draft2019-09", "draft2020-12"));
+
+    /**
+     * Schemas loaded by schema functions, by their JSON text. Rulesets often use the same schema in several rules, and
+     * the same rulesets are compiled again for other documents, so a schema is only loaded once while it remains in
+     * the cache.
+     */
+    private static final Map<String, Schema> SCHEMA_CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<String, Schema>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Schema> eldest) {
+                    return size() > MAXIMUM_CACHED_SCHEMAS;
+                }
+            });
+
+    /**
+     * Schema that values are validated against, or null if the options do not contain a valid schema.
+     */
+    final Schema schema;
+    final List<String> errors;
+
+    private SchemaOptions(Schema schema, List<String> errors) {
+        this.schema = schema;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    static SchemaOptions parse(Map<String, Object> options) {
+        List<String> errors = new ArrayList<>();
+
+        if (options == null) {
+            errors.add("Schema function should at least contain the schema option.");
+            return new SchemaOptions(null, errors);
+        }
+
+        Schema schema = null;
+        if (!options.containsKey(Constants.RULESET_SCHEMA_SCHEMA)) {
+            errors.add("Schema function should contain the schema option.");
+        } else {
+            try {
+                schema = loadSchema(GSON.toJson(options.get(Constants.RULESET_SCHEMA_SCHEMA)));
+            } catch (Exception e) {
+                errors.add("Schema function should contain a valid JSON schema.");
+            }
+        }
+
+        if (options.containsKey(Constants.RULESET_SCHEMA_DIALECT)) {
+            if (!(options.get(Constants.RULESET_SCHEMA_DIALECT) instanceof String)) {
+                errors.add("Schema function should contain a string value for the dialect option.");
+            } else if (!DIALECTS.contains(options.get(Constants.RULESET_SCHEMA_DIALECT))) {
+                errors.add("Schema function should contain a valid JSON schema dialect.");
+            }
+        }
+
+        if (options.containsKey(Constants.RULESET_SCHEMA_ALL_ERRORS) &&
+                !(options.get(Constants.RULESET_SCHEMA_ALL_ERRORS) instanceof Boolean)) {
+            errors.add("Schema function should contain a boolean value for the allErrors option.");
+        }
+
+        return new SchemaOptions(schema, errors);
+    }
+
+    private static Schema loadSchema(String jsonSchemaString) {
+        Schema loadedSchema = SCHEMA_CACHE.get(jsonSchemaString);
+        if (loadedSchema == null) {
+            loadedSchema = SchemaLoader.load(new JSONObject(new JSONTokener(jsonSchemaString)));
+            SCHEMA_CACHE.put(jsonSchemaString, loadedSchema);
+        }
+        return loadedSchema;
+    }
+}
@@ -17,7 +17,6 @@
  */
 package org.wso2.rule.validator.functions.core;
 
-import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.document.LintTarget;
 import org.wso2.rule.validator.functions.FunctionName;
 import org.wso2.rule.validator.functions.FunctionResult;
@@ -33,55 +32,21 @@ import java.util.Map;
 @FunctionName("xor")
 public class XorFunction extends LintFunction {
 
+    private final XorOptions xorOptions;
+
     public XorFunction(Map<String, Object> options) {
         super(options);
+        this.xorOptions = XorOptions.parse(this.options);
     }
 
     @Override
     public List<String> validateFunctionOptions() {
-        List<String> errors = new ArrayList<>();
-
-        if (options == null) {
-            errors.add("Xor function requires the list of properties.");
-            return errors;
-        }
-
-        if (!options.containsKey(Constants.RULESET_XOR_PROPERTIES)) {
-            errors.add("Xor function requires the list of properties.");
-            return errors;
-        }
-
-        if (!(options.get(Constants.RULESET_XOR_PROPERTIES) instanceof List)) {
-            errors.add("Xor function requires the list of properties.");
-            return errors;
-        }
-
-        List<Object> properties = (List<Object>) options.get(Constants.RULESET_XOR_PROPERTIES);
-        for (Object property : properties) {
-            if (!(property instanceof String)) {
-                errors.add("Xor function properties requires a list of Strings.");
-                return errors;
-            }
-        }
-
-        if (properties.size() <= 1) {
-            errors.add("Xor functions requires more than 1 property.");
-            return errors;
-        }
-
-        for (String key : options.keySet()) {
-            if (!key.equals(Constants.RULESET_XOR_PROPERTIES)) {
-                errors.add("Unknown option for the Xor function: " + key);
-            }
-        }
-
-        return errors;
+        return new ArrayList<>(xorOptions.errors);
     }
 
     public FunctionResult executeFunction(LintTarget target) {
-        List<String> properties = (List<String>) options.get(Constants.RULESET_XOR_PROPERTIES);
         int count = 0;
-        for (String property : properties) {
+        for (String property : xorOptions.properties) {
             if (target.value instanceof Map) {
                 Map<String, Object> map = (Map<String, Object>) target.value;
                 if (map.containsKey(property)) {
@@ -95,7 +60,8 @@ public class XorFunction extends LintFunction {
         if (count == 1) {
             return new FunctionResult(true, null);
         } else {
-            return new FunctionResult(false, "Only one of the properties " + properties + " should be present");
+            return new FunctionResult(false,
+                    "Only one of the properties " + xorOptions.properties + " should be present");
         }
     }
 }
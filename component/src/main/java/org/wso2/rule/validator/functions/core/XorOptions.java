@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.rule.validator.functions.core;
+
+import org.wso2.rule.validator.Constants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Options of the xor function, parsed from the function options of a rule.
+ */
+final class XorOptions {
+
+    final List<String> properties;
+    final List<String> errors;
+
+    private XorOptions(List<String> properties, List<String> errors) {
+        this.properties = Collections.unmodifiableList(properties);
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    static XorOptions parse(Map<String, Object> options) {
+        List<String> properties = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+
+        if (options == null || !(options.get(Constants.RULESET_XOR_PROPERTIES) instanceof List)) {
+            errors.add("Xor function requires the list of properties.");
+            return new XorOptions(properties, errors);
+        }
+
+        for (Object property : (List<Object>) options.get(Constants.RULESET_XOR_PROPERTIES)) {
+            if (!(property instanceof String)) {
+                errors.add("Xor function properties requires a list of Strings.");
+                return new XorOptions(properties, errors);
+            }
+            properties.add((String) property);
+        }
+
+        if (properties.size() <= 1) {
+            errors.add("Xor functions requires more than 1 property.");
+            return new XorOptions(properties, errors);
+        }
+
+        for (String key : options.keySet()) {
+            if (!key.equals(Constants.RULESET_XOR_PROPERTIES)) {
+                errors.add("Unknown option for the Xor function: " + key);
+            }
+        }
+
+        return new XorOptions(properties, errors);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.metrics;
+
+/**
+ * Creates the metrics the validator reports to. Implement this to bridge the metrics of the validator to a metrics
+ * library, and set it with {@link ValidatorMetrics#setRegistry(MetricsRegistry)}.
+ * <p>
+ * Metrics are identified by a name and by tags, given as alternating keys and values. The validator looks metrics up
+ * once per document or ruleset rather than keeping them, so implementations should return the same metric for the same
+ * name and tags instead of creating a new one on every call. Implementations must be thread safe.
+ */
+public interface MetricsRegistry {
+
+    /**
+     * Returns a counter.
+     *
+     * @param name name of the counter
+     * @param tags tag keys and values, alternating
+     * @return counter
+     */
+    Counter counter(String name, String... tags);
+
+    /**
+     * Returns a timer.
+     *
+     * @param name name of the timer
+     * @param tags tag keys and values, alternating
+     * @return timer
+     */
+    Timer timer(String name, String... tags);
+
+    /**
+     * Returns a histogram.
+     *
+     * @param name name of the histogram
+     * @param tags tag keys and values, alternating
+     * @return histogram
+     */
+    Histogram histogram(String name, String... tags);
+}
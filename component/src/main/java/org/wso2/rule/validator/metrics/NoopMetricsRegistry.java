@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.metrics;
+
+/**
+ * Registry of metrics that discard what is reported to them. Used when no registry is set.
+ */
+final class NoopMetricsRegistry implements MetricsRegistry {
+
+    static final NoopMetricsRegistry INSTANCE = new NoopMetricsRegistry();
+
+    private static final Counter COUNTER = amount -> { };
+    private static final Timer TIMER = durationNanos -> { };
+    private static final Histogram HISTOGRAM = value -> { };
+
+    private NoopMetricsRegistry() {
+    }
+
+    @Override
+    public Counter counter(String name, String... tags) {
+        return COUNTER;
+    }
+
+    @Override
+    public Timer timer(String name, String... tags) {
+        return TIMER;
+    }
+
+    @Override
+    public Histogram histogram(String name, String... tags) {
+        return HISTOGRAM;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.metrics;
+
+/**
+ * Process wide registry of the metrics reported by the validator, and the names and tags of those metrics. Nothing is
+ * reported until a registry is set, and while no registry is set the validator does not count anything that is only
+ * needed for metrics.
+ */
+public final class ValidatorMetrics {
+
+    /**
+     * Counter of the documents linted.
+     */
+    public static final String DOCUMENTS_LINTED = "rule.validator.documents.linted";
+    /**
+     * Timer of parsing a document into the tree that is linted.
+     */
+    public static final String DOCUMENT_PARSE_TIME = "rule.validator.document.parse.time";
+    /**
+     * Timer of linting a document with a ruleset.
+     */
+    public static final String DOCUMENT_LINT_TIME = "rule.validator.document.lint.time";
+    /**
+     * Histogram of the number of violations reported for a document.
+     */
+    public static final String DOCUMENT_VIOLATIONS = "rule.validator.document.violations";
+    /**
+     * Counter of the violations reported, tagged with {@link #SEVERITY_TAG}.
+     */
+    public static final String VIOLATIONS = "rule.validator.violations";
+    /**
+     * Counter of the results reported for each rule, tagged with {@link #RULE_TAG} and {@link #OUTCOME_TAG}. Passed
+     * results are only reported when the validation options are set to collect them.
+     */
+    public static final String RULE_RESULTS = "rule.validator.rule.results";
+    /**
+     * Counter of the lookups of the ruleset cache, tagged with {@link #OUTCOME_TAG}.
+     */
+    public static final String RULESET_CACHE_REQUESTS = "rule.validator.ruleset.cache.requests";
+    /**
+     * Timer of parsing, validating and building a ruleset that is not cached.
+     */
+    public static final String RULESET_COMPILE_TIME = "rule.validator.ruleset.compile.time";
+    /**
+     * Counter of the lint functions created for the rules of rulesets, tagged with {@link #FUNCTION_TAG} and
+     * {@link #OUTCOME_TAG}.
+     */
+    public static final String FUNCTIONS_CREATED = "rule.validator.functions.created";
+
+    public static final String SEVERITY_TAG = "severity";
+    public static final String RULE_TAG = "rule";
+    public static final String FUNCTION_TAG = "function";
+    public static final String OUTCOME_TAG = "outcome";
+
+    public static final String OUTCOME_PASSED = "passed";
+    public static final String OUTCOME_FAILED = "failed";
+    public static final String OUTCOME_HIT = "hit";
+    public static final String OUTCOME_MISS = "miss";
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+
+    private static volatile MetricsRegistry registry = NoopMetricsRegistry.INSTANCE;
+
+    private ValidatorMetrics() {
+    }
+
+    /**
+     * Returns the registry the validator reports its metrics to.
+     *
+     * @return metrics registry, which discards every metric if no registry has been set
+     */
+    public static MetricsRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Sets the registry the validator reports its metrics to. Validations that have already started may report to the
+     * previous registry.
+     *
+     * @param metricsRegistry metrics registry, or {@code null} to stop reporting metrics
+     */
+    public static void setRegistry(MetricsRegistry metricsRegistry) {
+        registry = metricsRegistry != null ? metricsRegistry : NoopMetricsRegistry.INSTANCE;
+    }
+
+    /**
+     * Returns whether a registry has been set, so that values only needed for metrics are only collected when they
+     * are reported.
+     *
+     * @return true if metrics are reported
+     */
+    public static boolean isEnabled() {
+        return registry != NoopMetricsRegistry.INSTANCE;
+    }
+}
@@ -18,11 +18,15 @@
 package org.wso2.rule.validator.ruleset;
 
 import org.apache.commons.lang3.StringUtils;
+import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.DiagnosticSeverity;
+import org.wso2.rule.validator.InvalidRulesetException;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Rule class to represent a rule in a ruleset.
@@ -37,6 +41,9 @@ public class Rule {
     public List<String> given;
     public List<Format> formats;
     private final List<Format> rulesetFormats;
+    private final Map<String, RulesetAliasDefinition> aliases;
+    // Given paths with aliases resolved, keyed by the formats of the documents they were resolved for
+    private final Map<List<Format>, List<String>> resolvedGiven = new ConcurrentHashMap<>();
     private boolean initialized = true;
     private String initializationErrorMessage = "";
 
@@ -44,6 +51,7 @@ public class Rule {
                 List<Format> rulesetFormats) {
         this.name = name;
         this.rulesetFormats = new ArrayList<>(rulesetFormats);
+        this.aliases = aliases;
         Object descriptionObject = ruleData.get("description");
         Object messageObject = ruleData.get("message");
         Object severityObject = ruleData.get("severity");
@@ -108,13 +116,49 @@ public class Rule {
         }
 
         if (givenObject instanceof List) {
-            this.given = (List<String>) givenObject;
+            this.given = Collections.unmodifiableList(new ArrayList<>((List<String>) givenObject));
         } else if (givenObject instanceof String) {
-            this.given = new ArrayList<>();
-            this.given.add((String) givenObject);
+            this.given = Collections.singletonList((String) givenObject);
         }
 
-        // Aliases are resolved when document is being validated
+        // Aliases are resolved per document formats when a document is being validated
+    }
+
+    /**
+     * Returns the given paths of the rule with aliases resolved for the provided document formats. Resolution is done
+     * once per distinct list of formats and the result is shared, so the rule can be used by concurrent validations.
+     *
+     * @param documentFormats formats of the document being validated
+     * @return unmodifiable list of resolved given paths
+     * @throws InvalidRulesetException if an alias cannot be resolved
+     */
+    public List<String> getResolvedGiven(List<Format> documentFormats) throws InvalidRulesetException {
+        List<Format> key = documentFormats != null ? documentFormats : Collections.emptyList();
+        List<String> resolved = resolvedGiven.get(key);
+        if (resolved == null) {
+            resolved = resolveGiven(key);
+            List<String> existing = resolvedGiven.putIfAbsent(List.copyOf(key), resolved);
+            if (existing != null) {
+                resolved = existing;
+            }
+        }
+        return resolved;
+    }
+
+    private List<String> resolveGiven(List<Format> documentFormats) throws InvalidRulesetException {
+        if (given == null) {
+            return Collections.emptyList();
+        }
+        List<String> resolved = new ArrayList<>();
+        for (String givenItem : given) {
+            if (givenItem.startsWith(Constants.ALIAS_PREFIX)) {
+                resolved.addAll(RulesetAliasDefinition.resolveAliasGiven(givenItem, aliases,
+                        documentFormats.isEmpty() ? null : documentFormats));
+            } else {
+                resolved.add(givenItem);
+            }
+        }
+        return Collections.unmodifiableList(resolved);
     }
 
     public boolean isInitialized() {
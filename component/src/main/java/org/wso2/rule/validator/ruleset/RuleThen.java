@@ -17,6 +17,8 @@
  */
 package org.wso2.rule.validator.ruleset;
 
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
 import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.functions.FunctionFactory;
 import org.wso2.rule.validator.functions.InvalidCoreFunctionException;
@@ -29,6 +31,7 @@ import java.util.Map;
  */
 public class RuleThen {
     public String field;
+    private JsonPath fieldPath;
     private String function;
     private Map<String, Object> functionOptions;
     public LintFunction lintFunction;
@@ -39,6 +42,15 @@ public class RuleThen {
         this.field = (String) ruleThenData.get(Constants.RULESET_FIELD);
         this.function = (String) ruleThenData.get(Constants.RULESET_FUNCTION);
         this.functionOptions = (Map<String, Object>) ruleThenData.get(Constants.RULESET_FUNCTION_OPTIONS);
+        if (this.field != null && !this.field.isEmpty() && !this.field.equals(Constants.RULESET_FIELD_KEY)) {
+            try {
+                this.fieldPath = JsonPath.compile(this.field);
+            } catch (InvalidPathException e) {
+                initialized = false;
+                initializationErrorMessage = "Invalid field: " + this.field;
+                return;
+            }
+        }
         try {
             this.lintFunction = FunctionFactory.getFunction(this.function, this.functionOptions);
         } catch (InvalidCoreFunctionException e) {
@@ -49,6 +61,15 @@ public class RuleThen {
         initialized = true;
     }
 
+    /**
+     * Returns the field compiled as a JSON path, or null if the field is not set or is the key selector.
+     *
+     * @return compiled field path
+     */
+    public JsonPath getFieldPath() {
+        return fieldPath;
+    }
+
     public boolean isInitialized() {
         return initialized;
     }
@@ -18,15 +18,20 @@
 package org.wso2.rule.validator.ruleset;
 
 import org.wso2.rule.validator.Constants;
+import org.wso2.rule.validator.DiagnosticSeverity;
 import org.wso2.rule.validator.InvalidRulesetException;
+import org.wso2.rule.validator.document.TraversalPlan;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Ruleset class represents a set of rules that can be applied to a document.
+ * Ruleset class represents a set of rules that can be applied to a document. Rules are kept in the order they are
+ * declared, which is the order their results are reported in.
  */
 public class Ruleset {
     public final Map<String, Rule> rules;
@@ -36,9 +41,24 @@ public class Ruleset {
     private List<Ruleset> extendsRulesets;
     private boolean initialized = true;
     private String initializationErrorMessage = "";
+    // Traversal plans of the rules, keyed by the formats of the documents they apply to
+    private final Map<List<Format>, TraversalPlan> traversalPlans = new ConcurrentHashMap<>();
+    // Traversal plan for documents whose formats are not known, to which every rule applies
+    private volatile TraversalPlan unknownFormatsTraversalPlan;
 
     public Ruleset(Map<String, Object> datamap) {
-        this.rules = new HashMap<>();
+        this(datamap, null);
+    }
+
+    /**
+     * Creates a ruleset that only keeps the rules reported at or above a minimum severity. Rules that are turned off,
+     * or are below the minimum severity, are still checked but left out of the ruleset, so they are never evaluated.
+     *
+     * @param datamap         ruleset content
+     * @param minimumSeverity lowest severity of the rules to keep, or null to keep every rule that is not turned off
+     */
+    public Ruleset(Map<String, Object> datamap, DiagnosticSeverity minimumSeverity) {
+        this.rules = new LinkedHashMap<>();
         this.aliases = new HashMap<>();
         this.hasComplexAliases = false;
         this.formats = new ArrayList<>();
@@ -76,7 +96,9 @@ public class Ruleset {
             String ruleName = entry.getKey();
             Rule rule = new Rule(ruleName, (Map<String, Object>) entry.getValue(), this.aliases, this.formats);
             if (rule.isInitialized()) {
-                this.rules.put(ruleName, rule);
+                if (rule.severity.isAtLeast(minimumSeverity)) {
+                    this.rules.put(ruleName, rule);
+                }
             } else {
                 this.initialized = false;
                 this.initializationErrorMessage = rule.getInitializationErrorMessage();
@@ -85,6 +107,54 @@ public class Ruleset {
         }
     }
 
+    /**
+     * Returns the plan used to match the given paths of the rules that apply to documents of the provided formats. The
+     * plan is compiled once per distinct list of formats and shared by concurrent validations.
+     *
+     * @param documentFormats formats of the document being validated
+     * @return traversal plan
+     * @throws InvalidRulesetException if an alias in a given path cannot be resolved
+     */
+    public TraversalPlan getTraversalPlan(List<Format> documentFormats) throws InvalidRulesetException {
+        if (documentFormats == null) {
+            TraversalPlan plan = unknownFormatsTraversalPlan;
+            if (plan == null) {
+                plan = compileTraversalPlan(null);
+                unknownFormatsTraversalPlan = plan;
+            }
+            return plan;
+        }
+        TraversalPlan plan = traversalPlans.get(documentFormats);
+        if (plan == null) {
+            plan = compileTraversalPlan(documentFormats);
+            TraversalPlan existing = traversalPlans.putIfAbsent(List.copyOf(documentFormats), plan);
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+        return plan;
+    }
+
+    private TraversalPlan compileTraversalPlan(List<Format> documentFormats) throws InvalidRulesetException {
+        List<Rule> applicableRules = new ArrayList<>();
+        for (Rule rule : rules.values()) {
+            if (appliesTo(rule, documentFormats)) {
+                applicableRules.add(rule);
+            }
+        }
+        return TraversalPlan.compile(applicableRules, documentFormats);
+    }
+
+    private boolean appliesTo(Rule rule, List<Format> documentFormats) {
+        if (!rule.formats.isEmpty()) {
+            return Format.matchFormat(rule.formats, documentFormats);
+        } else if (!formats.isEmpty()) {
+            return Format.matchFormat(formats, documentFormats);
+        } else {
+            return true;
+        }
+    }
+
     public boolean isInitialized() {
         return initialized;
     }
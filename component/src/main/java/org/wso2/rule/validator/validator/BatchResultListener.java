@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.validator;
+
+/**
+ * Receives the result of each document validated by {@link BatchValidator}, as soon as the document has been validated.
+ */
+public interface BatchResultListener {
+
+    /**
+     * Called once for each document of a batch. Calls are never made concurrently, but they are made from the threads
+     * that validate the documents and in the order the documents complete, which may differ from the input order.
+     *
+     * @param result result of a document
+     */
+    void onResult(BatchValidationResult result);
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.validator;
+
+/**
+ * Result of a single document validated by {@link BatchValidator}. Either holds the validation result of the document
+ * or the exception that prevented the document from being validated.
+ */
+public class BatchValidationResult {
+    private final long index;
+    private final String result;
+    private final Exception error;
+
+    BatchValidationResult(long index, String result, Exception error) {
+        this.index = index;
+        this.result = result;
+        this.error = error;
+    }
+
+    /**
+     * Returns the position of the document in the batch, starting from 0.
+     *
+     * @return index of the document
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the validation result of the document, in the same form as
+     * {@link Validator#validateDocument(String, CompiledRuleset, ValidationOptions)} returns it.
+     *
+     * @return validation result as JSON string, or null if the document could not be validated
+     */
+    public String getResult() {
+        return result;
+    }
+
+    /**
+     * Returns the exception thrown while validating the document, such as an
+     * {@link org.wso2.rule.validator.InvalidContentTypeException} for a document that is not valid JSON or YAML.
+     *
+     * @return exception, or null if the document was validated
+     */
+    public Exception getError() {
+        return error;
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.validator;
+
+import org.wso2.rule.validator.InvalidContentTypeException;
+import org.wso2.rule.validator.InvalidRulesetException;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Validates many documents against one ruleset concurrently. The ruleset is compiled once, and documents are read from
+ * the input only when a thread is free to validate them, so at most as many documents as the concurrency are held in
+ * memory at a time, whatever the size of the batch. The result of each document is passed to a
+ * {@link BatchResultListener} as soon as the document has been validated.
+ */
+public final class BatchValidator {
+
+    private static final AtomicInteger BATCH_COUNT = new AtomicInteger();
+
+    private BatchValidator() {
+    }
+
+    /**
+     * Compiles a ruleset and validates a batch of documents with it.
+     *
+     * @param documents         contents of the documents, read lazily
+     * @param rulesetFile       ruleset content
+     * @param validationOptions validation options
+     * @param concurrency       number of documents validated at the same time
+     * @param listener          listener receiving the result of each document
+     * @throws InvalidRulesetException     if ruleset is invalid
+     * @throws InvalidContentTypeException if the ruleset is not valid JSON or YAML
+     * @throws InterruptedException        if the calling thread is interrupted while waiting for documents
+     */
+    public static void validateDocuments(Iterator<String> documents, String rulesetFile,
+            ValidationOptions validationOptions, int concurrency, BatchResultListener listener)
+            throws InvalidRulesetException, InvalidContentTypeException, InterruptedException {
+        validateDocuments(documents, Validator.compileRuleset(rulesetFile, validationOptions), validationOptions,
+                concurrency, listener);
+    }
+
+    /**
+     * Validates a batch of documents with a compiled ruleset. Returns once every document read from the input has been
+     * validated and passed to the listener. Documents that cannot be validated are reported to the listener with the
+     * exception that was thrown, and do not stop the batch. An exception thrown by the listener or while reading the
+     * documents stops reading documents, and is thrown once the documents already being validated are complete. Their
+     * results are not passed to the listener.
+     *
+     * @param documents         contents of the documents, read lazily
+     * @param compiledRuleset   compiled ruleset
+     * @param validationOptions validation options
+     * @param concurrency       number of documents validated at the same time
+     * @param listener          listener receiving the result of each document
+     * @throws InterruptedException     if the calling thread is interrupted while waiting for documents
+     * @throws IllegalArgumentException if the minimum severity is lower than the one the ruleset was compiled with
+     */
+    public static void validateDocuments(Iterator<String> documents, CompiledRuleset compiledRuleset,
+            ValidationOptions validationOptions, int concurrency, BatchResultListener listener)
+            throws InterruptedException {
+        checkArguments(compiledRuleset, validationOptions, concurrency);
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency,
+                new BatchThreadFactory(BATCH_COUNT.incrementAndGet()));
+        try {
+            validateDocuments(documents, compiledRuleset, validationOptions, concurrency, listener, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Validates a batch of documents with a compiled ruleset, using an executor of the caller to validate them. The
+     * executor is not shut down, so it can be reused for other batches. At most as many documents as the concurrency
+     * are passed to the executor at a time, so an executor that starts a thread for each task, such as the virtual
+     * thread executor of JDK 21, can be used. Results are delivered as described for
+     * {@link #validateDocuments(Iterator, CompiledRuleset, ValidationOptions, int, BatchResultListener)}.
+     *
+     * @param documents         contents of the documents, read lazily
+     * @param compiledRuleset   compiled ruleset
+     * @param validationOptions validation options
+     * @param concurrency       number of documents validated at the same time
+     * @param listener          listener receiving the result of each document
+     * @param executor          executor validating the documents
+     * @throws InterruptedException     if the calling thread is interrupted while waiting for documents
+     * @throws IllegalArgumentException if the minimum severity is lower than the one the ruleset was compiled with
+     */
+    public static void validateDocuments(Iterator<String> documents, CompiledRuleset compiledRuleset,
+            ValidationOptions validationOptions, int concurrency, BatchResultListener listener, Executor executor)
+            throws InterruptedException {
+        checkArguments(compiledRuleset, validationOptions, concurrency);
+
+        // A permit is held by each document from the moment it is read until its result has been delivered
+        Semaphore documentsInFlight = new Semaphore(concurrency);
+        // Once the batch has failed, no more documents are read and no more results are passed to the listener
+        AtomicReference<Throwable> batchFailure = new AtomicReference<>();
+        Object listenerLock = new Object();
+        try {
+            long index = 0;
+            while (batchFailure.get() == null && documents.hasNext()) {
+                documentsInFlight.acquire();
+                boolean submitted = false;
+                try {
+                    String document = documents.next();
+                    long documentIndex = index++;
+                    executor.execute(() -> {
+                        try {
+                            BatchValidationResult result = validateDocument(documentIndex, document,
+                                    compiledRuleset, validationOptions);
+                            synchronized (listenerLock) {
+                                if (batchFailure.get() == null) {
+                                    listener.onResult(result);
+                                }
+                            }
+                        } catch (RuntimeException | Error e) {
+                            batchFailure.compareAndSet(null, e);
+                        } finally {
+                            documentsInFlight.release();
+                        }
+                    });
+                    submitted = true;
+                } finally {
+                    if (!submitted) {
+                        documentsInFlight.release();
+                    }
+                }
+            }
+            documentsInFlight.acquire(concurrency);
+        } catch (InterruptedException | RuntimeException | Error e) {
+            // Taking the lock waits for a result that is being delivered, and no result is delivered after it
+            synchronized (listenerLock) {
+                batchFailure.compareAndSet(null, e);
+            }
+            if (!(e instanceof InterruptedException)) {
+                documentsInFlight.acquireUninterruptibly(concurrency);
+            }
+            throw e;
+        }
+
+        Throwable failure = batchFailure.get();
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+    }
+
+    private static void checkArguments(CompiledRuleset compiledRuleset, ValidationOptions validationOptions,
+            int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency should be at least 1.");
+        }
+        compiledRuleset.checkMinimumSeverity(
+                validationOptions != null ? validationOptions.getMinimumSeverity() : null);
+    }
+
+    private static BatchValidationResult validateDocument(long index, String document,
+            CompiledRuleset compiledRuleset, ValidationOptions validationOptions) {
+        try {
+            return new BatchValidationResult(index,
+                    Validator.validateDocument(document, compiledRuleset, validationOptions), null);
+        } catch (InvalidRulesetException | InvalidContentTypeException | RuntimeException e) {
+            return new BatchValidationResult(index, null, e);
+        }
+    }
+
+    /**
+     * Creates daemon threads, so that validation threads never keep the application running.
+     */
+    private static final class BatchThreadFactory implements ThreadFactory {
+        private final int batchNumber;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        private BatchThreadFactory(int batchNumber) {
+            this.batchNumber = batchNumber;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable,
+                    "rule-validator-batch-" + batchNumber + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.validator;
+
+import org.wso2.rule.validator.DiagnosticSeverity;
+import org.wso2.rule.validator.ruleset.Ruleset;
+
+/**
+ * A ruleset that has been parsed, validated and built once so that it can be reused to validate any number of
+ * documents. Instances are created through {@link Validator#compileRuleset(String, ValidationOptions)}, are immutable
+ * and can be shared between threads.
+ */
+public final class CompiledRuleset {
+
+    private final Ruleset ruleset;
+    private final DiagnosticSeverity minimumSeverity;
+
+    CompiledRuleset(Ruleset ruleset, DiagnosticSeverity minimumSeverity) {
+        this.ruleset = ruleset;
+        this.minimumSeverity = minimumSeverity;
+    }
+
+    Ruleset getRuleset() {
+        return ruleset;
+    }
+
+    /**
+     * Returns the minimum severity of the validation options the ruleset was compiled with. Rules below it were left
+     * out of the ruleset.
+     *
+     * @return lowest severity of the rules in the ruleset, or null if every rule that is not turned off was kept
+     */
+    public DiagnosticSeverity getMinimumSeverity() {
+        return minimumSeverity;
+    }
+
+    /**
+     * Checks that the ruleset has every rule whose violations are to be reported for a minimum severity.
+     *
+     * @param reportedSeverity lowest severity to report, or null to report every severity
+     * @throws IllegalArgumentException if rules that are to be reported were left out when the ruleset was compiled
+     */
+    void checkMinimumSeverity(DiagnosticSeverity reportedSeverity) {
+        if (minimumSeverity != null && (reportedSeverity == null || !reportedSeverity.isAtLeast(minimumSeverity))) {
+            throw new IllegalArgumentException("The ruleset was compiled with the minimum severity " +
+                    DiagnosticSeverity.getSeverityString(minimumSeverity) + ", so it cannot report " +
+                    (reportedSeverity == null ? "every severity" :
+                            "the minimum severity " + DiagnosticSeverity.getSeverityString(reportedSeverity)) + ".");
+        }
+    }
+}
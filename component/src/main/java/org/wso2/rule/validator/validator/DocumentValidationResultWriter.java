@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.validator;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the violations of a document as a JSON array while the document is being validated. The output is the same
+ * as the JSON returned by {@link Validator#validateDocument(String, CompiledRuleset, ValidationOptions)}, but each
+ * violation is written as soon as it is found instead of being collected first. Closing the writer completes the array
+ * and closes the underlying writer or stream.
+ */
+public class DocumentValidationResultWriter implements LintResultConsumer, Closeable {
+
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+
+    private final JsonWriter jsonWriter;
+    private boolean started = false;
+
+    public DocumentValidationResultWriter(Writer writer) {
+        // Formatted in the same way as the pretty printed JSON of the validator
+        this.jsonWriter = new JsonWriter(writer);
+        this.jsonWriter.setIndent("  ");
+        this.jsonWriter.setHtmlSafe(false);
+    }
+
+    /**
+     * Creates a writer that writes UTF-8 encoded JSON to an output stream.
+     *
+     * @param outputStream output stream
+     */
+    public DocumentValidationResultWriter(OutputStream outputStream) {
+        this(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Writes a violation to the array.
+     *
+     * @param result violation found in the document
+     * @throws UncheckedIOException if the violation cannot be written
+     */
+    @Override
+    public void accept(DocumentValidationResult result) {
+        try {
+            start();
+            GSON.toJson(result, DocumentValidationResult.class, jsonWriter);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the end of the array, and closes the underlying writer or stream.
+     *
+     * @throws IOException if the end of the array cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        start();
+        jsonWriter.endArray();
+        jsonWriter.close();
+    }
+
+    private void start() throws IOException {
+        if (!started) {
+            jsonWriter.beginArray();
+            started = true;
+        }
+    }
+}
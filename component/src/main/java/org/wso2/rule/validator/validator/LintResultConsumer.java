@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.validator;
+
+import org.wso2.rule.validator.document.LintProfile;
+
+/**
+ * Receives the violations found in a document while it is being validated, so that they can be processed or written
+ * out without holding every violation of the document in memory.
+ *
+ * @see Validator#validateDocument(String, CompiledRuleset, ValidationOptions, LintResultConsumer)
+ * @see DocumentValidationResultWriter
+ */
+public interface LintResultConsumer {
+
+    /**
+     * Called for each violation, in the order of the rules of the ruleset and of the nodes they match. Calls are made
+     * from the thread that validates the document.
+     *
+     * @param result violation found in the document
+     */
+    void accept(DocumentValidationResult result);
+
+    /**
+     * Called once the document has been linted, when the validation options are set to
+     * {@link ValidationOptions#setCollectLintProfile(boolean) collect a lint profile}. Does nothing by default.
+     *
+     * @param profile time and match counts of each rule of the lint
+     */
+    default void acceptLintProfile(LintProfile profile) {
+    }
+}
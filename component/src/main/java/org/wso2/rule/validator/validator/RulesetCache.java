@@ -0,0 +1,183 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.validator;
+
+import org.wso2.rule.validator.InvalidContentTypeException;
+import org.wso2.rule.validator.metrics.MetricsRegistry;
+import org.wso2.rule.validator.metrics.ValidatorMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Least recently used cache of compiled rulesets and ruleset validation results. Entries are keyed by a hash of the
+ * ruleset content and the validation options that affect how the ruleset is compiled, and the cache is bounded both by
+ * the number of entries and by the estimated heap size of the cached rulesets.
+ */
+public final class RulesetCache {
+
+    public static final int DEFAULT_MAXIMUM_ENTRIES = 64;
+    public static final long DEFAULT_MAXIMUM_SIZE_IN_BYTES = 64L * 1024 * 1024;
+
+    // The parsed content and the built rules take considerably more heap than the ruleset text itself
+    private static final long ESTIMATED_BYTES_PER_RULESET_CHARACTER = 32;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int maximumEntries;
+    private long maximumSizeInBytes;
+    private long sizeInBytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates a ruleset cache.
+     *
+     * @param maximumEntries     maximum number of cached rulesets. Caching is disabled if this is zero
+     * @param maximumSizeInBytes maximum estimated heap size of the cached rulesets
+     */
+    public RulesetCache(int maximumEntries, long maximumSizeInBytes) {
+        setLimits(maximumEntries, maximumSizeInBytes);
+    }
+
+    /**
+     * Changes the limits of the cache, evicting entries if the cache is above the new limits.
+     *
+     * @param maximumEntries     maximum number of cached rulesets. Caching is disabled if this is zero
+     * @param maximumSizeInBytes maximum estimated heap size of the cached rulesets
+     */
+    public synchronized void setLimits(int maximumEntries, long maximumSizeInBytes) {
+        if (maximumEntries < 0 || maximumSizeInBytes < 0) {
+            throw new IllegalArgumentException("Ruleset cache limits cannot be negative.");
+        }
+        this.maximumEntries = maximumEntries;
+        this.maximumSizeInBytes = maximumSizeInBytes;
+        evict();
+    }
+
+    /**
+     * Removes all the cached rulesets. Statistics are retained.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        sizeInBytes = 0;
+    }
+
+    public synchronized RulesetCacheStatistics getStatistics() {
+        return new RulesetCacheStatistics(hitCount, missCount, evictionCount, entries.size(), sizeInBytes);
+    }
+
+    Entry get(String rulesetString, ValidationOptions validationOptions, EntryLoader loader)
+            throws InvalidContentTypeException {
+        String key = getKey(rulesetString, validationOptions);
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null) {
+                hitCount++;
+            } else {
+                missCount++;
+            }
+        }
+        MetricsRegistry metrics = ValidatorMetrics.getRegistry();
+        metrics.counter(ValidatorMetrics.RULESET_CACHE_REQUESTS, ValidatorMetrics.OUTCOME_TAG,
+                entry != null ? ValidatorMetrics.OUTCOME_HIT : ValidatorMetrics.OUTCOME_MISS).increment();
+        if (entry != null) {
+            return entry;
+        }
+
+        // Load outside the lock so that a large ruleset does not block lookups of other rulesets
+        long start = System.nanoTime();
+        Entry loaded = loader.load(rulesetString, validationOptions,
+                rulesetString.length() * ESTIMATED_BYTES_PER_RULESET_CHARACTER);
+        metrics.timer(ValidatorMetrics.RULESET_COMPILE_TIME).record(System.nanoTime() - start);
+        synchronized (this) {
+            if (maximumEntries == 0) {
+                return loaded;
+            }
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            entries.put(key, loaded);
+            sizeInBytes += loaded.estimatedSizeInBytes;
+            evict();
+            return loaded;
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maximumEntries || sizeInBytes > maximumSizeInBytes) && iterator.hasNext()) {
+            sizeInBytes -= iterator.next().getValue().estimatedSizeInBytes;
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    private static String getKey(String rulesetString, ValidationOptions validationOptions) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        byte[] hash = digest.digest(rulesetString.getBytes(StandardCharsets.UTF_8));
+        StringBuilder key = new StringBuilder(hash.length * 2 + 32);
+        for (byte b : hash) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        ValidationOptions options = validationOptions != null ? validationOptions : ValidationOptions.defaults();
+        return key.append('|').append(options.getRulesetCacheKey()).toString();
+    }
+
+    /**
+     * Loads the cache entry of a ruleset on a cache miss.
+     */
+    interface EntryLoader {
+        Entry load(String rulesetString, ValidationOptions validationOptions, long estimatedSizeInBytes)
+                throws InvalidContentTypeException;
+    }
+
+    /**
+     * Cached outcome of validating and building a ruleset. Exactly one of the compiled ruleset, the validation errors
+     * and the initialization error message is present.
+     */
+    static final class Entry {
+        final List<RulesetValidationError> validationErrors;
+        final String initializationErrorMessage;
+        final CompiledRuleset compiledRuleset;
+        final long estimatedSizeInBytes;
+
+        Entry(List<RulesetValidationError> validationErrors, String initializationErrorMessage,
+              CompiledRuleset compiledRuleset, long estimatedSizeInBytes) {
+            this.validationErrors = Collections.unmodifiableList(validationErrors);
+            this.initializationErrorMessage = initializationErrorMessage;
+            this.compiledRuleset = compiledRuleset;
+            this.estimatedSizeInBytes = estimatedSizeInBytes;
+        }
+    }
+}
@@ -18,15 +18,35 @@
 
 package org.wso2.rule.validator.validator;
 
+import org.wso2.rule.validator.DiagnosticSeverity;
+
+import java.util.concurrent.Executor;
+
 /**
  * Options used while validating documents and rulesets.
  */
 public class ValidationOptions {
 
     private Integer yamlCodePointLimit;
+    private int parallelism;
+    private Executor executor;
+    private boolean collectPassedResults;
+    private Integer maxViolationsPerRule;
+    private Integer maxViolationsPerDocument;
+    private boolean stopOnFirstError;
+    private DiagnosticSeverity minimumSeverity;
+    private boolean collectLintProfile;
 
     public ValidationOptions() {
         this.yamlCodePointLimit = null;
+        this.parallelism = 1;
+        this.executor = null;
+        this.collectPassedResults = false;
+        this.maxViolationsPerRule = null;
+        this.maxViolationsPerDocument = null;
+        this.stopOnFirstError = false;
+        this.minimumSeverity = null;
+        this.collectLintProfile = false;
     }
 
     public static ValidationOptions defaults() {
@@ -40,4 +60,141 @@ public class ValidationOptions {
     public void setYamlCodePointLimit(Integer yamlCodePointLimit) {
         this.yamlCodePointLimit = yamlCodePointLimit;
     }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of tasks the rules are linted in. With a parallelism of 1, which is the default, a document is
+     * linted on the calling thread. Results are returned in the same order whatever the parallelism is.
+     *
+     * @param parallelism number of tasks, at least 1
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism should be at least 1.");
+        }
+        this.parallelism = parallelism;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor that runs the lint tasks when the parallelism is more than 1. The common fork join pool is used
+     * if no executor is set. The calling thread also runs lint tasks, so tasks that the executor rejects or does not
+     * start are still completed.
+     *
+     * @param executor executor for lint tasks, or null to use the common fork join pool
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public boolean isCollectPassedResults() {
+        return collectPassedResults;
+    }
+
+    /**
+     * Sets whether {@link org.wso2.rule.validator.document.Document#lint} also reports the checks that passed, for
+     * example to audit which targets a ruleset covers. By default only failed checks are reported, and the path and
+     * message of a check are only built when it fails. Validation results only ever contain violations.
+     *
+     * @param collectPassedResults true to also report passed checks
+     */
+    public void setCollectPassedResults(boolean collectPassedResults) {
+        this.collectPassedResults = collectPassedResults;
+    }
+
+    public Integer getMaxViolationsPerRule() {
+        return maxViolationsPerRule;
+    }
+
+    /**
+     * Sets the maximum number of violations reported for each rule. Once a rule reaches it, its remaining matches are
+     * not evaluated.
+     *
+     * @param maxViolationsPerRule maximum number of violations of a rule, at least 1, or null for no limit
+     */
+    public void setMaxViolationsPerRule(Integer maxViolationsPerRule) {
+        if (maxViolationsPerRule != null && maxViolationsPerRule < 1) {
+            throw new IllegalArgumentException("Maximum violations per rule should be at least 1.");
+        }
+        this.maxViolationsPerRule = maxViolationsPerRule;
+    }
+
+    public Integer getMaxViolationsPerDocument() {
+        return maxViolationsPerDocument;
+    }
+
+    /**
+     * Sets the maximum number of violations reported for a document. Once it is reached, the remaining rules are not
+     * evaluated.
+     *
+     * @param maxViolationsPerDocument maximum number of violations of a document, at least 1, or null for no limit
+     */
+    public void setMaxViolationsPerDocument(Integer maxViolationsPerDocument) {
+        if (maxViolationsPerDocument != null && maxViolationsPerDocument < 1) {
+            throw new IllegalArgumentException("Maximum violations per document should be at least 1.");
+        }
+        this.maxViolationsPerDocument = maxViolationsPerDocument;
+    }
+
+    public boolean isStopOnFirstError() {
+        return stopOnFirstError;
+    }
+
+    /**
+     * Sets whether linting stops after the first violation of a rule with the error severity. The violations reported
+     * before it are kept, so the result is always the same for a document.
+     *
+     * @param stopOnFirstError true to stop at the first error
+     */
+    public void setStopOnFirstError(boolean stopOnFirstError) {
+        this.stopOnFirstError = stopOnFirstError;
+    }
+
+    public DiagnosticSeverity getMinimumSeverity() {
+        return minimumSeverity;
+    }
+
+    /**
+     * Sets the lowest severity of the rules that are evaluated. Rules below it are left out when the ruleset is
+     * compiled, as are rules that are turned off, so they cost nothing while documents are linted. A ruleset compiled
+     * with a minimum severity cannot validate documents with options that have a lower one.
+     *
+     * @param minimumSeverity lowest severity to evaluate, or null to evaluate every rule that is not turned off
+     */
+    public void setMinimumSeverity(DiagnosticSeverity minimumSeverity) {
+        if (minimumSeverity == DiagnosticSeverity.OFF) {
+            throw new IllegalArgumentException("Minimum severity should not be off.");
+        }
+        this.minimumSeverity = minimumSeverity;
+    }
+
+    public boolean isCollectLintProfile() {
+        return collectLintProfile;
+    }
+
+    /**
+     * Sets whether the time and match counts of each rule are measured while a document is linted, to find the rules
+     * that make a ruleset expensive. The profile is available from
+     * {@link org.wso2.rule.validator.document.Document#getLintProfile()} and is passed to
+     * {@link LintResultConsumer#acceptLintProfile}. Disabled by default, in which case nothing is measured.
+     *
+     * @param collectLintProfile true to collect a lint profile
+     */
+    public void setCollectLintProfile(boolean collectLintProfile) {
+        this.collectLintProfile = collectLintProfile;
+    }
+
+    /**
+     * Returns a key identifying the options that affect how a ruleset is loaded and built, so that rulesets compiled
+     * with different options are cached separately.
+     */
+    String getRulesetCacheKey() {
+        return "yamlCodePointLimit=" + yamlCodePointLimit + ",minimumSeverity=" + minimumSeverity;
+    }
 }
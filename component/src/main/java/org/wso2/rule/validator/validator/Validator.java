@@ -21,24 +21,30 @@ package org.wso2.rule.validator.validator;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.jayway.jsonpath.JsonPath;
+import org.wso2.rule.validator.DiagnosticSeverity;
 import org.wso2.rule.validator.InvalidContentTypeException;
 import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.document.Document;
-import org.wso2.rule.validator.functions.LintResult;
+import org.wso2.rule.validator.document.LintProfile;
 import org.wso2.rule.validator.ruleset.Ruleset;
 import org.wso2.rule.validator.ruleset.RulesetType;
-import org.wso2.rule.validator.ruleset.file.type.JsonRuleset;
-import org.wso2.rule.validator.ruleset.file.type.YamlRuleset;
 import org.wso2.rule.validator.utils.Util;
 import org.wso2.rule.validator.validator.ruleset.RulesetValidationResult;
+import org.wso2.rule.validator.validator.ruleset.RulesetValidator;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Validator class to validate documents and rulesets.
  */
 public class Validator {
+    private static final RulesetCache RULESET_CACHE = new RulesetCache(RulesetCache.DEFAULT_MAXIMUM_ENTRIES,
+            RulesetCache.DEFAULT_MAXIMUM_SIZE_IN_BYTES);
+
     /**
      * Validates a document with a ruleset using default validation options.
      *
@@ -67,54 +73,131 @@ public class Validator {
      */
     public static String validateDocument(String documentFile, String rulesetFile, ValidationOptions validationOptions)
             throws InvalidRulesetException, InvalidContentTypeException {
+        return validateDocument(documentFile, compileRuleset(rulesetFile, validationOptions), validationOptions);
+    }
 
-        List<RulesetValidationError> errors = getRulesetValidationErrors(rulesetFile, validationOptions);
-        if (!errors.isEmpty()) {
-            Gson gson = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
-            throw new InvalidRulesetException(gson.toJson(errors));
+    /**
+     * Validates a document with a ruleset that has already been compiled. Only the document is parsed, so the same
+     * compiled ruleset can be reused to validate any number of documents.
+     * <p>
+     * Violations of rules below the minimum severity of the validation options are not reported. Rules below the
+     * minimum severity the ruleset was compiled with are not part of it, so the validation options cannot have a lower
+     * minimum severity than the options the ruleset was compiled with.
+     *
+     * @param documentFile      document content
+     * @param compiledRuleset   compiled ruleset
+     * @param validationOptions validation options
+     * @return validation result as JSON string
+     * @throws InvalidRulesetException     if ruleset is invalid
+     * @throws InvalidContentTypeException if content is not valid JSON or YAML
+     * @throws IllegalArgumentException    if the minimum severity is lower than the one the ruleset was compiled with
+     */
+    public static String validateDocument(String documentFile, CompiledRuleset compiledRuleset,
+            ValidationOptions validationOptions) throws InvalidRulesetException, InvalidContentTypeException {
+        StringWriter output = new StringWriter();
+        try (DocumentValidationResultWriter resultWriter = new DocumentValidationResultWriter(output)) {
+            validateDocument(documentFile, compiledRuleset, validationOptions, resultWriter);
+        } catch (IOException e) {
+            // Not thrown when writing to a string
+            throw new UncheckedIOException(e);
         }
+        return output.toString();
+    }
 
-        RulesetType type = findRulesetType(rulesetFile, validationOptions);
-        Ruleset ruleset;
+    /**
+     * Validates a document with a compiled ruleset, and passes each violation to a consumer as soon as it is found
+     * instead of returning them together. Use a {@link DocumentValidationResultWriter} to write the violations as JSON
+     * to a writer or stream. When the validation options are set to collect a lint profile, it is passed to the
+     * consumer after the last violation.
+     * <p>
+     * Violations of rules below the minimum severity of the validation options are not passed to the consumer. Rules
+     * below the minimum severity the ruleset was compiled with are not part of it, so the validation options cannot
+     * have a lower minimum severity than the options the ruleset was compiled with.
+     *
+     * @param documentFile      document content
+     * @param compiledRuleset   compiled ruleset
+     * @param validationOptions validation options
+     * @param consumer          consumer of the violations
+     * @throws InvalidRulesetException     if ruleset is invalid
+     * @throws InvalidContentTypeException if content is not valid JSON or YAML
+     * @throws IllegalArgumentException    if the minimum severity is lower than the one the ruleset was compiled with
+     */
+    public static void validateDocument(String documentFile, CompiledRuleset compiledRuleset,
+            ValidationOptions validationOptions, LintResultConsumer consumer)
+            throws InvalidRulesetException, InvalidContentTypeException {
+        DiagnosticSeverity minimumSeverity = validationOptions != null ? validationOptions.getMinimumSeverity() : null;
+        compiledRuleset.checkMinimumSeverity(minimumSeverity);
+        Document document = new Document(documentFile, validationOptions);
+        if (document.isNull()) {
+            throw new InvalidContentTypeException("Document is empty.");
+        }
+        document.lint(compiledRuleset.getRuleset(), lintResult -> {
+            if (!lintResult.passed && lintResult.rule.severity.isAtLeast(minimumSeverity)) {
+                consumer.accept(new DocumentValidationResult(lintResult.path, lintResult.message,
+                        lintResult.rule.name, lintResult.rule.severity));
+            }
+        });
+        LintProfile lintProfile = document.getLintProfile();
+        if (lintProfile != null) {
+            consumer.acceptLintProfile(lintProfile);
+        }
+    }
 
-        if (type == RulesetType.YAML) {
-            ruleset = new YamlRuleset(rulesetFile, validationOptions);
-        } else {
-            ruleset = new JsonRuleset(rulesetFile);
+    /**
+     * Parses, validates and builds a ruleset once so that it can be reused through
+     * {@link #validateDocument(String, CompiledRuleset, ValidationOptions)}. The result is kept in the
+     * {@link #getRulesetCache() ruleset cache}, so compiling the same content again returns the same instance.
+     *
+     * @param rulesetFile       ruleset content
+     * @param validationOptions validation options
+     * @return compiled ruleset
+     * @throws InvalidRulesetException     if ruleset is invalid
+     * @throws InvalidContentTypeException if content is not valid JSON or YAML
+     */
+    public static CompiledRuleset compileRuleset(String rulesetFile, ValidationOptions validationOptions)
+            throws InvalidRulesetException, InvalidContentTypeException {
+        RulesetCache.Entry entry = RULESET_CACHE.get(rulesetFile, validationOptions, Validator::buildRulesetCacheEntry);
+        if (!entry.validationErrors.isEmpty()) {
+            Gson gson = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+            throw new InvalidRulesetException(gson.toJson(entry.validationErrors));
+        }
+        if (entry.compiledRuleset == null) {
+            throw new InvalidRulesetException(entry.initializationErrorMessage);
         }
+        return entry.compiledRuleset;
+    }
 
-        if (!ruleset.isInitialized()) {
-            throw new InvalidRulesetException(ruleset.getInitializationErrorMessage());
+    /**
+     * Returns the process wide cache of compiled rulesets used by the validator. Identical ruleset content validated
+     * with equivalent options is parsed, validated and built only once while it remains in the cache.
+     *
+     * @return ruleset cache
+     */
+    public static RulesetCache getRulesetCache() {
+        return RULESET_CACHE;
+    }
+
+    private static RulesetCache.Entry buildRulesetCacheEntry(String rulesetString, ValidationOptions validationOptions,
+            long estimatedSizeInBytes) throws InvalidContentTypeException {
+        Map<String, Object> rulesetContent = loadRuleset(rulesetString, validationOptions);
+
+        List<RulesetValidationError> errors = RulesetValidator.validate(rulesetContent);
+        if (!errors.isEmpty()) {
+            return new RulesetCache.Entry(errors, null, null, estimatedSizeInBytes);
         }
 
-        Document document = new Document(documentFile, validationOptions);
-        Gson gson = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
-        List<DocumentValidationResult> results = new ArrayList<>();
-        if (!document.isNull()) {
-            List<LintResult> lintResults = document.lint(ruleset);
-            for (LintResult lintResult : lintResults) {
-                if (lintResult.passed) {
-                    continue;
-                }
-                results.add(new DocumentValidationResult(lintResult.path, lintResult.message,
-                        lintResult.rule.name, lintResult.rule.severity));
-            }
-        } else {
-            throw new InvalidContentTypeException("Document is empty.");
+        DiagnosticSeverity minimumSeverity = validationOptions != null ? validationOptions.getMinimumSeverity() : null;
+        Ruleset ruleset = new Ruleset(rulesetContent, minimumSeverity);
+        if (!ruleset.isInitialized()) {
+            return new RulesetCache.Entry(errors, ruleset.getInitializationErrorMessage(), null, estimatedSizeInBytes);
         }
-        return gson.toJson(results);
+        return new RulesetCache.Entry(errors, null, new CompiledRuleset(ruleset, minimumSeverity),
+                estimatedSizeInBytes);
     }
 
     private static List<RulesetValidationError> getRulesetValidationErrors(String rulesetString,
             ValidationOptions validationOptions) throws InvalidContentTypeException {
-        RulesetType type = findRulesetType(rulesetString, validationOptions);
-        List<RulesetValidationError> errors;
-        if (type == RulesetType.YAML) {
-            errors = YamlRulesetValidator.validateRuleset(rulesetString, validationOptions);
-        } else {
-            errors = JsonRulesetValidator.validateRuleset(rulesetString);
-        }
-        return errors;
+        return RULESET_CACHE.get(rulesetString, validationOptions, Validator::buildRulesetCacheEntry).validationErrors;
     }
 
     /**
@@ -151,19 +234,34 @@ public class Validator {
         return gson.toJson(result);
     }
 
-    private static RulesetType findRulesetType(String ruleset, ValidationOptions validationOptions)
+    private static RulesetType findRulesetType(String ruleset) {
+        String trimmedRuleset = ruleset.trim();
+        if (trimmedRuleset.startsWith("{") || trimmedRuleset.startsWith("[")) {
+            return RulesetType.JSON;
+        }
+        return RulesetType.YAML;
+    }
+
+    /**
+     * Parses the ruleset content exactly once, as JSON or YAML depending on its type.
+     */
+    private static Map<String, Object> loadRuleset(String ruleset, ValidationOptions validationOptions)
             throws InvalidContentTypeException {
+        RulesetType type = findRulesetType(ruleset);
+        Object content;
         try {
-            String trimmedRuleset = ruleset.trim();
-            if (trimmedRuleset.startsWith("{") || trimmedRuleset.startsWith("[")) {
-                JsonPath.parse(ruleset);
-                return RulesetType.JSON;
+            if (type == RulesetType.JSON) {
+                content = JsonPath.parse(ruleset).json();
             } else {
-                Util.loadYaml(ruleset, validationOptions);
-                return RulesetType.YAML;
+                content = Util.loadYaml(ruleset, validationOptions);
             }
         } catch (Exception e) {
             throw new InvalidContentTypeException(e.getMessage());
         }
+        if (!(content instanceof Map)) {
+            throw new InvalidContentTypeException(
+                    "Invalid " + (type == RulesetType.JSON ? "JSON" : "YAML") + " ruleset content.");
+        }
+        return (Map<String, Object>) content;
     }
 }
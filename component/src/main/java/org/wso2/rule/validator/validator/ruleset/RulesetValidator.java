@@ -24,7 +24,7 @@ import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.functions.FunctionFactory;
 import org.wso2.rule.validator.functions.InvalidCoreFunctionException;
-import org.wso2.rule.validator.functions.LintFunction;
+import org.wso2.rule.validator.functions.InvalidFunctionOptionsException;
 import org.wso2.rule.validator.ruleset.Format;
 import org.wso2.rule.validator.ruleset.RulesetAliasDefinition;
 import org.wso2.rule.validator.ruleset.RulesetAliasTarget;
@@ -42,7 +42,13 @@ import java.util.regex.Pattern;
  * This class implements the actual ruleset validation logic
  */
 public abstract class RulesetValidator {
-    protected static List<RulesetValidationError> validate(Map<String, Object> ruleset) {
+    /**
+     * Validates ruleset content that has already been parsed from JSON or YAML.
+     *
+     * @param ruleset parsed ruleset content
+     * @return list of validation errors
+     */
+    public static List<RulesetValidationError> validate(Map<String, Object> ruleset) {
 
         List<RulesetValidationError> errors = new ArrayList<>();
 
@@ -314,16 +320,14 @@ public abstract class RulesetValidator {
                         "'functionOptions' field of a then object should be an object"));
             }
         }
-        LintFunction lintFunction;
         try {
-            lintFunction = FunctionFactory.getFunction(function, functionOptions);
+            FunctionFactory.getFunction(function, functionOptions);
+        } catch (InvalidFunctionOptionsException e) {
+            for (String error : e.getOptionErrors()) {
+                errors.add(new RulesetValidationError(ruleName, error));
+            }
         } catch (InvalidCoreFunctionException e) {
             errors.add(new RulesetValidationError(ruleName, e.getMessage()));
-            return errors;
-        }
-        List<String> functionErrors = lintFunction.validateFunctionOptions();
-        for (String error : functionErrors) {
-            errors.add(new RulesetValidationError(ruleName, error));
         }
 
         return errors;
@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.document;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.wso2.rule.validator.InvalidRulesetException;
+import org.wso2.rule.validator.generator.SpecGenerator;
+import org.wso2.rule.validator.ruleset.Format;
+import org.wso2.rule.validator.ruleset.Ruleset;
+import org.wso2.rule.validator.utils.Util;
+import org.wso2.rule.validator.validator.ValidationOptions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Scaling tests of {@link Document#lint(Ruleset)} on generated documents. Each test lints a document and a document
+ * that is larger in one dimension, and fails when the work of the lint grows much faster than the document, so that
+ * quadratic behaviour is caught on documents that are still small enough for a test. The work of the walk of the
+ * document is the number of traversal steps of the {@link LintProfile}, which does not depend on the machine the tests
+ * run on. The work of collecting the matches of a rule and executing its functions is only seen in its time, so the
+ * median time of the lint and of each rule is compared with the growth of the steps, and of the matches and targets
+ * of the rule, with a tolerance that leaves room for a busy machine.
+ */
+public class DocumentLintScalingTest {
+
+    private static final long SEED = 20260101L;
+    private static final int SCALE_FACTOR = 8;
+    // Linear scaling grows the steps 8 times and quadratic scaling 64 times, which leaves room for the objects that
+    // are generated at random
+    private static final int MAXIMUM_STEP_RATIO = SCALE_FACTOR * 2;
+    // Times may grow this many times faster than the work they measure. Quadratic scaling grows the times by the square
+    // of the work, so it is caught once the work grows more than this
+    private static final double TIME_TOLERANCE = 4;
+    // Times shorter than this on the small document are compared as this time, since they are mostly noise
+    private static final long MINIMUM_TIME_NANOS = 1_000_000;
+    private static final int LINT_RUNS = 5;
+
+    private static ValidationOptions validationOptions;
+    private static Ruleset ruleset;
+
+    @BeforeAll
+    public static void loadRuleset() throws IOException {
+        validationOptions = new ValidationOptions();
+        validationOptions.setYamlCodePointLimit(256 * 1024 * 1024);
+        validationOptions.setCollectLintProfile(true);
+        String rulesetContent = Files.readString(Paths.get("src/test/resources/rulesets/scaling.ruleset"));
+        ruleset = new Ruleset((Map<String, Object>) Util.loadYaml(rulesetContent, validationOptions));
+        assertTrue(ruleset.isInitialized(), ruleset.getInitializationErrorMessage());
+    }
+
+    private static Stream<Format> provideFormats() {
+        return SpecGenerator.FORMATS.stream();
+    }
+
+    /**
+     * Tests that the lint work grows linearly with the number of paths or channels.
+     */
+    @ParameterizedTest
+    @MethodSource("provideFormats")
+    public void lintScalesWithPathCount(Format format) throws InvalidRulesetException {
+        assertLinearScaling(format, (generator, scale) -> {
+            generator.setPathCount(250 * scale);
+            generator.setSchemaDepth(1);
+        });
+    }
+
+    /**
+     * Tests that the lint work grows linearly with the depth of the schemas.
+     */
+    @Test
+    public void lintScalesWithSchemaDepth() throws InvalidRulesetException {
+        assertLinearScaling(Format.OAS3_0, (generator, scale) -> {
+            generator.setPathCount(50);
+            generator.setComponentCount(50);
+            generator.setSchemaDepth(2 * scale);
+        });
+    }
+
+    /**
+     * Tests that the lint work grows linearly with the size of the enums.
+     */
+    @Test
+    public void lintScalesWithEnumSize() throws InvalidRulesetException {
+        assertLinearScaling(Format.OAS3_1, (generator, scale) -> {
+            generator.setPathCount(50);
+            generator.setEnumSize(50 * scale);
+        });
+    }
+
+    /**
+     * Tests that the lint work grows linearly with the number of components.
+     */
+    @Test
+    public void lintScalesWithComponentCount() throws InvalidRulesetException {
+        for (Format format : List.of(Format.OAS2, Format.AAS3)) {
+            assertLinearScaling(format, (generator, scale) -> {
+                generator.setPathCount(10);
+                generator.setComponentCount(250 * scale);
+            });
+        }
+    }
+
+    private static void assertLinearScaling(Format format, BiConsumer<SpecGenerator, Integer> shape)
+            throws InvalidRulesetException {
+        List<LintProfile> smallProfiles = lint(createDocument(format, shape, 1));
+        List<LintProfile> largeProfiles = lint(createDocument(format, shape, SCALE_FACTOR));
+        LintProfile small = smallProfiles.get(0);
+        LintProfile large = largeProfiles.get(0);
+        assertTrue(getTargetCount(large) > getTargetCount(small), String.format(
+                "Linting a %s document %d times as large did not execute more functions.", format, SCALE_FACTOR));
+
+        double stepRatio = getRatio(small.getTraversalStepCount(), large.getTraversalStepCount());
+        assertTrue(stepRatio <= MAXIMUM_STEP_RATIO, String.format(
+                "Linting a %s document %d times as large grew the traversal steps from %d to %d.", format,
+                SCALE_FACTOR, small.getTraversalStepCount(), large.getTraversalStepCount()));
+        double lintWorkRatio = stepRatio;
+        for (int i = 0; i < small.getRuleProfiles().size(); i++) {
+            RuleProfile smallRule = small.getRuleProfiles().get(i);
+            RuleProfile largeRule = large.getRuleProfiles().get(i);
+            // The time of a rule includes a share of the walk, which may pass through the whole document
+            double workRatio = Math.max(stepRatio, Math.max(getRatio(smallRule.getMatchCount(),
+                    largeRule.getMatchCount()), getRatio(smallRule.getTargetCount(), largeRule.getTargetCount())));
+            assertTimeScales(format, smallRule.getRuleName(), getMedianTime(smallProfiles, i),
+                    getMedianTime(largeProfiles, i), workRatio);
+            lintWorkRatio = Math.max(lintWorkRatio, workRatio);
+        }
+        assertTimeScales(format, "lint", getMedianTime(smallProfiles, -1), getMedianTime(largeProfiles, -1),
+                lintWorkRatio);
+    }
+
+    private static void assertTimeScales(Format format, String name, long smallTime, long largeTime,
+            double workRatio) {
+        double timeRatio = (double) largeTime / Math.max(smallTime, MINIMUM_TIME_NANOS);
+        assertTrue(timeRatio <= Math.max(workRatio, 1) * TIME_TOLERANCE, String.format(
+                "Linting a %s document %d times as large grew the median time of %s from %d to %d nanoseconds, " +
+                        "while its work grew %.1f times.", format, SCALE_FACTOR, name, smallTime, largeTime,
+                workRatio));
+    }
+
+    private static double getRatio(long smallCount, long largeCount) {
+        return (double) largeCount / Math.max(smallCount, 1);
+    }
+
+    private static long getTargetCount(LintProfile profile) {
+        long targetCount = 0;
+        for (RuleProfile ruleProfile : profile.getRuleProfiles()) {
+            targetCount += ruleProfile.getTargetCount();
+        }
+        return targetCount;
+    }
+
+    private static long getMedianTime(List<LintProfile> profiles, int ruleIndex) {
+        long[] times = new long[profiles.size()];
+        for (int i = 0; i < times.length; i++) {
+            if (ruleIndex < 0) {
+                times[i] = profiles.get(i).getLintTimeNanos();
+            } else {
+                RuleProfile ruleProfile = profiles.get(i).getRuleProfiles().get(ruleIndex);
+                times[i] = ruleProfile.getGivenTimeNanos() + ruleProfile.getFunctionTimeNanos();
+            }
+        }
+        Arrays.sort(times);
+        return times[times.length / 2];
+    }
+
+    private static Document createDocument(Format format, BiConsumer<SpecGenerator, Integer> shape, int scale) {
+        SpecGenerator generator = new SpecGenerator(SEED);
+        shape.accept(generator, scale);
+        return new Document(generator.generate(format, SpecGenerator.Syntax.JSON), validationOptions);
+    }
+
+    private static List<LintProfile> lint(Document document) throws InvalidRulesetException {
+        // The first lint is not measured, so that the lint times do not include compiling the engine
+        document.lint(ruleset);
+        List<LintProfile> profiles = new ArrayList<>(LINT_RUNS);
+        for (int i = 0; i < LINT_RUNS; i++) {
+            document.lint(ruleset);
+            profiles.add(document.getLintProfile());
+        }
+        return profiles;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.document;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.wso2.rule.validator.InvalidRulesetException;
+import org.wso2.rule.validator.functions.LintResult;
+import org.wso2.rule.validator.generator.SpecGenerator;
+import org.wso2.rule.validator.ruleset.Format;
+import org.wso2.rule.validator.ruleset.Ruleset;
+import org.wso2.rule.validator.validator.ValidationOptions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link Document} class.
+ */
+public class DocumentTest {
+
+    private static Stream<Format> provideFormats() {
+        return SpecGenerator.FORMATS.stream();
+    }
+
+    /**
+     * Tests that generated documents are detected as the format they are generated for, in YAML and in JSON.
+     *
+     * @param format format of the generated document
+     */
+    @ParameterizedTest
+    @MethodSource("provideFormats")
+    public void detectsFormatOfGeneratedDocuments(Format format) {
+        SpecGenerator generator = new SpecGenerator(1L);
+        for (SpecGenerator.Syntax syntax : SpecGenerator.Syntax.values()) {
+            Document document = new Document(generator.generate(format, syntax), ValidationOptions.defaults());
+            assertTrue(document.formats.contains(format), format + " is not detected in " + syntax + ": " +
+                    document.formats);
+        }
+    }
+
+    /**
+     * Tests that AsyncAPI documents of every minor version with a format are detected as the major and minor version
+     * formats.
+     *
+     * @param version version of the document
+     * @param formats expected formats
+     */
+    @ParameterizedTest
+    @MethodSource("provideAsyncApiVersions")
+    public void detectsAsyncApiMinorVersionFormats(String version, List<Format> formats) {
+        assertEquals(formats, getFormats("asyncapi: " + version));
+    }
+
+    private static Stream<Arguments> provideAsyncApiVersions() {
+        return Stream.of(
+                Arguments.of("2.0.0", List.of(Format.AAS2, Format.AAS2_0)),
+                Arguments.of("2.1.0", List.of(Format.AAS2, Format.AAS2_1)),
+                Arguments.of("2.2.0", List.of(Format.AAS2, Format.AAS2_2)),
+                Arguments.of("2.3.0", List.of(Format.AAS2, Format.AAS2_3)),
+                Arguments.of("2.4.0", List.of(Format.AAS2, Format.AAS2_4)),
+                Arguments.of("2.5.0", List.of(Format.AAS2, Format.AAS2_5)),
+                Arguments.of("2.6.0", List.of(Format.AAS2, Format.AAS2_6)),
+                Arguments.of("3.0.0", List.of(Format.AAS3, Format.AAS3_0))
+        );
+    }
+
+    /**
+     * Tests the formats detected for AsyncAPI versions that are quoted, read as numbers, have no minor version format
+     * or are not supported.
+     */
+    @Test
+    public void detectsAsyncApiFormats() {
+        assertEquals(List.of(Format.AAS2, Format.AAS2_0), getFormats("asyncapi: '2.0.0'"));
+        assertEquals(List.of(Format.AAS2, Format.AAS2_6), getFormats("asyncapi: 2.6"));
+        assertEquals(List.of(Format.AAS3), getFormats("asyncapi: 3"));
+        assertEquals(List.of(Format.AAS2), getFormats("asyncapi: 2.9.0"));
+        assertEquals(List.of(Format.AAS3), getFormats("asyncapi: 3.1.0"));
+        assertEquals(List.of(), getFormats("asyncapi: 1.2.0"));
+        assertEquals(List.of(), getFormats("asyncapi: 20.0.0"));
+    }
+
+    /**
+     * Tests that OpenAPI documents are not detected as AsyncAPI, and that the formats of OpenAPI documents are
+     * unchanged.
+     */
+    @Test
+    public void detectsOpenApiFormats() {
+        assertEquals(List.of(Format.OAS2), getFormats("swagger: '2.0'"));
+        assertEquals(List.of(Format.OAS3_0, Format.OAS3), getFormats("openapi: 3.0.3"));
+        assertEquals(List.of(Format.OAS3_1, Format.OAS3), getFormats("openapi: 3.1.0"));
+        assertEquals(List.of(), getFormats("title: test"));
+    }
+
+    /**
+     * Tests that rules limited to AsyncAPI formats apply to AsyncAPI documents and not to OpenAPI documents.
+     */
+    @Test
+    public void appliesAsyncApiRulesToAsyncApiDocuments() throws InvalidRulesetException {
+        Map<String, Object> then = Map.of("field", "description", "function", "truthy");
+        Map<String, Object> rule = Map.of("formats", List.of("aas2"), "given", "$.info", "then", then);
+        Ruleset ruleset = new Ruleset(Map.of("rules", Map.of("info-description", rule)));
+
+        assertEquals(1, lint("asyncapi: 2.6.0", ruleset).size());
+        assertEquals(0, lint("asyncapi: 3.0.0", ruleset).size());
+        assertEquals(0, lint("openapi: 3.0.3", ruleset).size());
+    }
+
+    private static List<Format> getFormats(String versionLine) {
+        return createDocument(versionLine).formats;
+    }
+
+    private static List<LintResult> lint(String versionLine, Ruleset ruleset) throws InvalidRulesetException {
+        return createDocument(versionLine).lint(ruleset);
+    }
+
+    private static Document createDocument(String versionLine) {
+        return new Document(versionLine + "\ninfo:\n  title: test\n", ValidationOptions.defaults());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.document;
+
+import com.google.gson.GsonBuilder;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.wso2.rule.validator.utils.Util;
+import org.wso2.rule.validator.validator.ValidationOptions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link DocumentTreeBuilder} class.
+ */
+public class DocumentTreeBuilderTest {
+
+    private static final String DOCUMENT = "openapi: 3.0.0\n" +
+            "info:\n" +
+            "  title: test\n" +
+            "  version: 1.0\n" +
+            "  x-count: 3\n" +
+            "  x-big: 12345678901\n" +
+            "  x-huge: 123456789012345678901234567890\n" +
+            "  x-precise: 0.12345678901234567890\n" +
+            "  x-null: null\n" +
+            "  x-empty:\n" +
+            "  x-flag: true\n" +
+            "paths:\n" +
+            "  /b: {}\n" +
+            "  /a:\n" +
+            "    get:\n" +
+            "      tags: [z, a, 1, 2.5]\n" +
+            "      responses:\n" +
+            "        200:\n" +
+            "          description: ok\n";
+
+    /**
+     * Tests that the tree is the same as the one obtained through a JSON text round trip.
+     */
+    @Test
+    public void matchesJsonRoundTrip() {
+        Object yamlData = Util.loadYaml(DOCUMENT, ValidationOptions.defaults());
+        String json = new GsonBuilder().setPrettyPrinting().serializeNulls().create().toJson(yamlData);
+        Object expected = JsonPath.parse(json).json();
+
+        Object actual = new DocumentTreeBuilder().build(yamlData);
+
+        assertEquals(expected, actual);
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    /**
+     * Tests that numbers are stored with the same types as the JSON parser of the default provider uses.
+     */
+    @Test
+    public void normalizesNumbers() {
+        Map<Object, Object> yamlData = new LinkedHashMap<>();
+        yamlData.put("int", 3L);
+        yamlData.put("long", BigInteger.valueOf(12345678901L));
+        yamlData.put("bigInteger", new BigInteger("123456789012345678901234567890"));
+        yamlData.put("double", 1.5);
+        yamlData.put("preciseDouble", 0.12345678901234568);
+
+        Map<String, Object> tree = (Map<String, Object>) new DocumentTreeBuilder().build(yamlData);
+
+        assertEquals(3, tree.get("int"));
+        assertEquals(12345678901L, tree.get("long"));
+        assertEquals(new BigInteger("123456789012345678901234567890"), tree.get("bigInteger"));
+        assertEquals(1.5, tree.get("double"));
+        assertEquals(new BigDecimal("0.12345678901234568"), tree.get("preciseDouble"));
+    }
+
+    /**
+     * Tests that key order, null values and non string keys are kept.
+     */
+    @Test
+    public void keepsKeysAndNulls() {
+        Map<Object, Object> yamlData = new LinkedHashMap<>();
+        yamlData.put("b", null);
+        yamlData.put(200, Arrays.asList("x", null));
+        yamlData.put("a", new HashMap<>());
+
+        Map<String, Object> tree = (Map<String, Object>) new DocumentTreeBuilder().build(yamlData);
+
+        assertEquals(Arrays.asList("b", "200", "a"), new ArrayList<>(tree.keySet()));
+        assertTrue(tree.containsKey("b"));
+        assertNull(tree.get("b"));
+        assertInstanceOf(List.class, tree.get("200"));
+        assertEquals(Arrays.asList("x", null), tree.get("200"));
+    }
+
+    /**
+     * Tests that numbers that cannot be represented in JSON are rejected.
+     */
+    @Test
+    public void rejectsNonFiniteNumbers() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DocumentTreeBuilder().build(List.of(Double.NaN)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DocumentTreeBuilder().build(Map.of("value", Double.POSITIVE_INFINITY)));
+    }
+}
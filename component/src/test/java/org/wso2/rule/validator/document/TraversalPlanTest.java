@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.document;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.wso2.rule.validator.InvalidRulesetException;
+import org.wso2.rule.validator.ruleset.Rule;
+import org.wso2.rule.validator.ruleset.Ruleset;
+import org.wso2.rule.validator.utils.Util;
+import org.wso2.rule.validator.validator.ValidationOptions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link TraversalPlan} class.
+ */
+public class TraversalPlanTest {
+
+    private static final String DOCUMENT = "openapi: 3.0.0\n" +
+            "info:\n" +
+            "  title: test\n" +
+            "  description: info description\n" +
+            "tags:\n" +
+            "  - name: a\n" +
+            "    description: tag a\n" +
+            "  - name: b\n" +
+            "paths:\n" +
+            "  /a:\n" +
+            "    get:\n" +
+            "      description: get a\n" +
+            "      parameters:\n" +
+            "        - name: id\n" +
+            "          in: path\n" +
+            "        - name: limit\n" +
+            "          in: query\n" +
+            "      responses:\n" +
+            "        '200':\n" +
+            "          description: ok\n" +
+            "    post:\n" +
+            "      responses:\n" +
+            "        '400':\n" +
+            "          description: bad request\n" +
+            "  /b:\n" +
+            "    parameters:\n" +
+            "      - name: version\n" +
+            "        in: header\n" +
+            "    get:\n" +
+            "      x-empty: null\n";
+
+    private static final String[] GIVEN_PATHS = {
+            "$",
+            "$.info",
+            "$.info.contact",
+            "$.paths[*]",
+            "$.paths.*[*]",
+            "$.paths[*][get,post]",
+            "$.paths['/b','/a'].get",
+            "$.paths[\"/a\"]['get'].parameters[1]",
+            "$.paths[*][*].parameters[?(@.in == 'query')]",
+            "$.paths[*][*].responses[?(@.description)]",
+            "$..description",
+            "$..parameters[*].name",
+            "$..*",
+            "$..['in']",
+            "$.tags[*].description",
+            "$.tags[5]",
+            "$.tags[-1]",
+            "$..[0]",
+            "$.tags[0:1]",
+            "$.paths[*].get.x-empty"
+    };
+
+    /**
+     * Tests that every given path matches the same nodes, in the same order, as JsonPath.
+     */
+    @Test
+    public void matchesJsonPath() throws InvalidRulesetException {
+        Object tree = new DocumentTreeBuilder().build(Util.loadYaml(DOCUMENT, ValidationOptions.defaults()));
+        for (String givenPath : GIVEN_PATHS) {
+            TraversalPlan plan = TraversalPlan.compile(List.of(createRule(givenPath)), null);
+            List<PathMatch> matches = plan.evaluate(tree).get(0);
+
+            List<String> expectedPaths = new ArrayList<>();
+            List<Object> expectedNodes = new ArrayList<>();
+            try {
+                List<String> paths = JsonPath.compile(givenPath).read(tree, Document.PATH_LIST_CONFIGURATION);
+                for (String path : paths) {
+                    expectedPaths.add(String.join("/", Document.splitJsonPath(path)));
+                    expectedNodes.add(JsonPath.read(tree, path));
+                }
+            } catch (PathNotFoundException e) {
+                // No node is expected
+            }
+
+            List<String> actualPaths = new ArrayList<>();
+            List<Object> actualNodes = new ArrayList<>();
+            for (PathMatch match : matches) {
+                actualPaths.add(String.join("/", match.path));
+                actualNodes.add(match.node);
+            }
+            assertEquals(expectedPaths, actualPaths, "Matched paths differ for " + givenPath);
+            assertEquals(expectedNodes, actualNodes, "Matched nodes differ for " + givenPath);
+        }
+    }
+
+    /**
+     * Tests the nodes selected step by step for paths with shared prefixes and recursive descent.
+     */
+    @Test
+    public void selectsNodesInDocumentOrder() throws InvalidRulesetException {
+        Map<String, Object> getOperation = new LinkedHashMap<>();
+        getOperation.put("description", "get");
+        getOperation.put("tags", List.of("x", "y"));
+        Map<String, Object> pathItem = new LinkedHashMap<>();
+        pathItem.put("description", "path");
+        pathItem.put("get", getOperation);
+        Map<String, Object> paths = new LinkedHashMap<>();
+        paths.put("/a", pathItem);
+        Map<String, Object> tree = new LinkedHashMap<>();
+        tree.put("description", "root");
+        tree.put("paths", paths);
+
+        TraversalPlan plan = TraversalPlan.compile(List.of(createRule("$..description"),
+                createRule("$.paths[*].get.tags[1]"), createRule("$.paths['/b','/a'].*")), null);
+        List<List<PathMatch>> matches = plan.evaluate(tree);
+
+        assertEquals(List.of("description", "paths//a/description", "paths//a/get/description"),
+                joinPaths(matches.get(0)));
+        assertEquals(List.of("paths//a/get/tags/1"), joinPaths(matches.get(1)));
+        assertEquals("y", matches.get(1).get(0).node);
+        assertEquals(List.of("paths//a/description", "paths//a/get"), joinPaths(matches.get(2)));
+    }
+
+    /**
+     * Tests that the time of the walk is split across the given times of the rules, and that the matches of each rule
+     * are recorded.
+     */
+    @Test
+    public void splitsTraversalTimeAcrossRules() throws InvalidRulesetException {
+        Map<String, Object> pathItem = new LinkedHashMap<>();
+        pathItem.put("description", "path");
+        pathItem.put("get", Map.of("description", "get"));
+        Map<String, Object> tree = new LinkedHashMap<>();
+        tree.put("description", "root");
+        tree.put("paths", Map.of("/a", pathItem));
+        tree.put("tags", List.of(Map.of("name", "a")));
+
+        List<Rule> rules = List.of(createRule("$..description"), createRule("$.paths[*].get"),
+                createRule("$.info.contact"));
+        TraversalPlan plan = TraversalPlan.compile(rules, null);
+        LintProfile profile = new LintProfile(rules);
+        plan.evaluate(tree, profile);
+
+        long givenTime = 0;
+        for (RuleProfile ruleProfile : profile.getRuleProfiles()) {
+            givenTime += ruleProfile.getGivenTimeNanos();
+        }
+        assertTrue(givenTime >= profile.getTraversalTimeNanos());
+        assertEquals(3, profile.getRuleProfile(0).getMatchCount());
+        assertEquals(1, profile.getRuleProfile(1).getMatchCount());
+        assertEquals(0, profile.getRuleProfile(2).getMatchCount());
+    }
+
+    /**
+     * Tests that nodes are returned with their paths while a JsonPath is evaluated.
+     */
+    @Test
+    public void readsMatchesWithJsonPath() {
+        Object tree = new DocumentTreeBuilder().build(Util.loadYaml(DOCUMENT, ValidationOptions.defaults()));
+
+        List<PathMatch> matches = Document.readMatches(JsonPath.compile("$.tags[-1:]"), tree);
+        assertEquals(List.of("tags/1"), joinPaths(matches));
+        assertEquals(Map.of("name", "b"), matches.get(0).node);
+
+        assertEquals(List.of(), Document.readMatches(JsonPath.compile("$.tags[*].summary"), tree));
+        assertThrows(PathNotFoundException.class,
+                () -> Document.readMatches(JsonPath.compile("$.info.contact.name"), tree));
+    }
+
+    /**
+     * Tests that only paths that can be evaluated step by step are parsed.
+     */
+    @Test
+    public void parsesSupportedPaths() {
+        assertNotNull(PathStepParser.parse("$"));
+        assertNotNull(PathStepParser.parse("$.paths[*][*].parameters[?(@.in == 'query')]"));
+        assertNotNull(PathStepParser.parse("$..$ref"));
+        assertNotNull(PathStepParser.parse("$.paths['/a', '/b'].get"));
+        assertEquals(3, PathStepParser.parse("$.tags[0].name").size());
+
+        assertNull(PathStepParser.parse("info.title"));
+        assertNull(PathStepParser.parse("$.paths['/a','/b']"));
+        assertNull(PathStepParser.parse("$.tags[-1]"));
+        assertNull(PathStepParser.parse("$.tags[0:1]"));
+        assertNull(PathStepParser.parse("$..[0]"));
+        assertNull(PathStepParser.parse("$..[?(@.name)]"));
+        assertNull(PathStepParser.parse("$.paths[?(@.x == $.info.title)]"));
+        assertNull(PathStepParser.parse("$.paths[get,put]"));
+        assertNull(PathStepParser.parse("$.tags.length()"));
+    }
+
+    private static Rule createRule(String givenPath) {
+        Map<String, Object> then = Map.of("function", "truthy");
+        Map<String, Object> rule = Map.of("given", givenPath, "then", then);
+        return new Ruleset(Map.of("rules", Map.of("rule", rule))).rules.get("rule");
+    }
+
+    private static List<String> joinPaths(List<PathMatch> matches) {
+        List<String> paths = new ArrayList<>();
+        for (PathMatch match : matches) {
+            paths.add(String.join("/", match.path));
+        }
+        return paths;
+    }
+}
@@ -22,6 +22,8 @@ import org.junit.jupiter.api.Test;
 import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.document.LintTarget;
+import org.wso2.rule.validator.functions.FunctionFactory;
+import org.wso2.rule.validator.functions.InvalidCoreFunctionException;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -152,6 +154,20 @@ public class AlphabeticalFunctionTest {
         }
     }
 
+    /**
+     * Tests that numbers are ordered by value rather than by their string form.
+     */
+    @Test
+    public void testNumbersOrderedByValueShouldReturnNoError() {
+        AlphabeticalFunction function = new AlphabeticalFunction(null);
+        try {
+            assertTrue(function.execute(new LintTarget(new ArrayList<>(), List.of(2, 9, 10, 10.5))).passed);
+            assertFalse(function.execute(new LintTarget(new ArrayList<>(), List.of(2, 10, 9.5))).passed);
+        } catch (InvalidRulesetException e) {
+            fail("Execution should not throw an exception.");
+        }
+    }
+
     /**
      * Tests that an array of objects returns an error.
      */
@@ -263,7 +279,7 @@ public class AlphabeticalFunctionTest {
     }
 
     /**
-     * Tests that invalid function options throw an InvalidRulesetException.
+     * Tests that invalid function options are rejected when the function is created.
      */
     @Test
     void testInvalidFunctionOptionsShouldNotThrow() {
@@ -271,10 +287,9 @@ public class AlphabeticalFunctionTest {
                 Map.of(Constants.RULESET_ALPHABETICAL_KEYED_BY, 2), };
 
         for (Map<String, Object> invalidOption : invalidOptions) {
-            AlphabeticalFunction function = new AlphabeticalFunction(invalidOption);
-            assertThrows(InvalidRulesetException.class,
-                    () -> function.execute(new LintTarget(new ArrayList<>(), List.of())),
-                    "Expected InvalidRulesetException for invalid options.");
+            assertThrows(InvalidCoreFunctionException.class,
+                    () -> FunctionFactory.getFunction("alphabetical", invalidOption),
+                    "Expected InvalidCoreFunctionException for invalid options.");
         }
     }
 }
@@ -26,6 +26,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.document.LintTarget;
+import org.wso2.rule.validator.functions.FunctionFactory;
+import org.wso2.rule.validator.functions.InvalidCoreFunctionException;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -34,6 +36,7 @@ import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -966,7 +969,7 @@ public class CasingFunctionTest {
     }
 
     /**
-     * Tests that invalid options throw an InvalidRulesetException.
+     * Tests that invalid options are rejected when the function is created.
      */
     @Test
     public void shouldThrowExceptionForInvalidOptions() {
@@ -987,10 +990,73 @@ public class CasingFunctionTest {
         }} };
 
         for (Map<String, Object> invalidOption : invalidOptions) {
-            CasingFunction function = new CasingFunction(invalidOption);
-            assertThrows(InvalidRulesetException.class,
-                    () -> function.execute(new LintTarget(new ArrayList<>(), "foo")),
-                    "Expected InvalidRulesetException for invalid options.");
+            assertThrows(InvalidCoreFunctionException.class,
+                    () -> FunctionFactory.getFunction("casing", invalidOption),
+                    "Expected InvalidCoreFunctionException for invalid options.");
+        }
+    }
+
+    /**
+     * Tests that a type that is not a string is accepted and checked as flat case, and that an empty separator
+     * character is accepted and fails every target, since it does not give a valid pattern.
+     */
+    @Test
+    public void shouldAcceptTypeAndSeparatorThatCannotBeScanned() throws InvalidRulesetException {
+        CasingFunction numericType = new CasingFunction(Map.of(Constants.RULESET_CASING_TYPE, 1));
+        assertTrue(numericType.execute(new LintTarget(new ArrayList<>(), "foo")).passed);
+        assertFalse(numericType.execute(new LintTarget(new ArrayList<>(), "fooBar")).passed);
+
+        CasingFunction emptySeparator = new CasingFunction(Map.of(Constants.RULESET_CASING_TYPE, "kebab",
+                Constants.RULESET_CASING_SEPARATOR, Map.of(Constants.RULESET_CASING_SEPARATOR_CHAR, "")));
+        assertFalse(emptySeparator.execute(new LintTarget(new ArrayList<>(), "foo")).passed);
+    }
+
+    /**
+     * Tests that every casing type gives the same result as its regex for all short values over a small alphabet.
+     */
+    @Test
+    public void shouldMatchCasingRegex() throws InvalidRulesetException {
+        String[] types = { "flat", "camel", "pascal", "kebab", "cobol", "snake", "macro" };
+        String[] separators = { null, ".", "-", "_", "a", "1" };
+        List<String> values = new ArrayList<>();
+        addValues(values, "", "aZ1-_.", 4);
+
+        for (String type : types) {
+            for (boolean disallowDigits : new boolean[] { false, true }) {
+                for (String separatorChar : separators) {
+                    for (boolean allowLeading : new boolean[] { false, true }) {
+                        Map<String, Object> options = new HashMap<>();
+                        options.put(Constants.RULESET_CASING_TYPE, type);
+                        options.put(Constants.RULESET_CASING_DISALLOW_DIGITS, disallowDigits);
+                        if (separatorChar != null) {
+                            options.put(Constants.RULESET_CASING_SEPARATOR,
+                                    Map.of(Constants.RULESET_CASING_SEPARATOR_CHAR, separatorChar,
+                                            Constants.RULESET_CASING_SEPARATOR_ALLOW_LEADING, allowLeading));
+                        }
+                        CasingFunction casingFunction = new CasingFunction(options);
+                        String pattern = CasingFunction.getPattern(CasingOptions.parse(options));
+
+                        for (String value : values) {
+                            boolean expected = value.matches(pattern) || (allowLeading && value.equals(separatorChar));
+                            assertEquals(expected,
+                                    casingFunction.execute(new LintTarget(new ArrayList<>(), value)).passed,
+                                    "Unexpected result for '" + value + "' with options " + options);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addValues(List<String> values, String prefix, String alphabet, int length) {
+        if (!prefix.isEmpty()) {
+            values.add(prefix);
+        }
+        if (prefix.length() == length) {
+            return;
+        }
+        for (char c : alphabet.toCharArray()) {
+            addValues(values, prefix + c, alphabet, length);
         }
     }
 }
@@ -22,7 +22,10 @@ import org.junit.jupiter.api.Test;
 import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.document.LintTarget;
+import org.wso2.rule.validator.functions.FunctionFactory;
+import org.wso2.rule.validator.functions.InvalidCoreFunctionException;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -75,6 +78,30 @@ public class EnumerationFunctionTest {
         }
     }
 
+    /**
+     * Tests that integers of any type and booleans are matched by value.
+     */
+    @Test
+    public void givenNumbersAndBooleansShouldMatchByValue() {
+        Map<String, Object> options = new HashMap<>();
+        options.put(Constants.RULESET_ENUMERATION_VALUES, List.of(200, 12345678901L, "404", true));
+
+        EnumerationFunction function = new EnumerationFunction(options);
+
+        try {
+            assertTrue(function.execute(new LintTarget(new ArrayList<>(), 200)).passed);
+            assertTrue(function.execute(new LintTarget(new ArrayList<>(), 200L)).passed);
+            assertTrue(function.execute(new LintTarget(new ArrayList<>(), BigInteger.valueOf(12345678901L))).passed);
+            assertTrue(function.execute(new LintTarget(new ArrayList<>(), "404")).passed);
+            assertTrue(function.execute(new LintTarget(new ArrayList<>(), true)).passed);
+            assertFalse(function.execute(new LintTarget(new ArrayList<>(), 404)).passed);
+            assertFalse(function.execute(new LintTarget(new ArrayList<>(), "200")).passed);
+            assertFalse(function.execute(new LintTarget(new ArrayList<>(), false)).passed);
+        } catch (InvalidRulesetException e) {
+            fail("Execution should not throw an exception.");
+        }
+    }
+
     /**
      * Tests that the function returns true for a non-primitive value.
      */
@@ -108,10 +135,10 @@ public class EnumerationFunctionTest {
     }
 
     /**
-     * Tests that the function throws an InvalidRulesetException for invalid options.
+     * Tests that invalid options are rejected when the function is created.
      */
     @Test
-    public void givenInvalidOptionsShouldThrowInvalidRulesetException() {
+    public void givenInvalidOptionsShouldThrowInvalidCoreFunctionException() {
         List<Map<String, Object>> invalidOptionsList = new ArrayList<>(
                 List.of(Map.of(Constants.RULESET_ENUMERATION_VALUES, List.of(new String[] { "foo", "2" }), "foo", true),
                         Map.of(Constants.RULESET_ENUMERATION_VALUES, List.of(new Object[] {})),
@@ -120,9 +147,7 @@ public class EnumerationFunctionTest {
         invalidOptionsList.add(null);
 
         for (Map<String, Object> options : invalidOptionsList) {
-            EnumerationFunction function = new EnumerationFunction(options);
-            LintTarget target = new LintTarget(new ArrayList<>(), "foo");
-            assertThrows(InvalidRulesetException.class, () -> function.execute(target));
+            assertThrows(InvalidCoreFunctionException.class, () -> FunctionFactory.getFunction("enumeration", options));
         }
     }
 }
@@ -21,7 +21,9 @@ package org.wso2.rule.validator.functions.core;
 import org.junit.jupiter.api.Test;
 import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.document.LintTarget;
+import org.wso2.rule.validator.functions.FunctionFactory;
 import org.wso2.rule.validator.functions.FunctionResult;
+import org.wso2.rule.validator.functions.InvalidCoreFunctionException;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -81,16 +83,13 @@ public class FalsyFunctionTest {
     }
 
     /**
-     * Tests that the function throws an InvalidRulesetException for invalid options.
+     * Tests that invalid options are rejected when the function is created.
      */
     @Test
     public void validationTestForInvalidOptions() {
         Map<String, Object> invalidOption = Map.of("unsupportedKey", true);
 
-        FalsyFunction function = new FalsyFunction(invalidOption);
-        LintTarget target = new LintTarget(new ArrayList<>(), null);
-
-        assertThrows(InvalidRulesetException.class, () -> function.execute(target),
-                "Expected InvalidRulesetException for invalid option: " + invalidOption);
+        assertThrows(InvalidCoreFunctionException.class, () -> FunctionFactory.getFunction("falsy", invalidOption),
+                "Expected InvalidCoreFunctionException for invalid option: " + invalidOption);
     }
 }
@@ -23,13 +23,16 @@ import org.junit.jupiter.api.Test;
 import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.document.LintTarget;
+import org.wso2.rule.validator.functions.FunctionFactory;
 import org.wso2.rule.validator.functions.FunctionResult;
+import org.wso2.rule.validator.functions.InvalidCoreFunctionException;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -159,7 +162,7 @@ public class LengthFunctionTest {
     }
 
     /**
-     * Tests that the function throws an InvalidRulesetException for invalid options.
+     * Tests that invalid options are rejected when the function is created.
      */
     @Test
     public void testInvalidOptions() {
@@ -172,9 +175,24 @@ public class LengthFunctionTest {
         };
 
         for (Map<String, Object> invalidOption : invalidOptions) {
-            LengthFunction function = createFunction(invalidOption);
-            assertThrows(InvalidRulesetException.class, () -> function.execute(new LintTarget(new ArrayList<>(), "")),
-                    "Expected InvalidRulesetException for invalid options.");
+            assertThrows(InvalidCoreFunctionException.class, () -> FunctionFactory.getFunction("length", invalidOption),
+                    "Expected InvalidCoreFunctionException for invalid options.");
         }
     }
+
+    /**
+     * Tests that the options cannot be changed once the function is created.
+     */
+    @Test
+    public void testOptionsCannotBeChangedAfterCreation() throws InvalidRulesetException {
+        options.put(Constants.RULESET_LENGTH_MAX, 3);
+        LengthFunction function = createFunction(options);
+
+        options.put(Constants.RULESET_LENGTH_MAX, 2);
+        assertEquals(3, function.options.get(Constants.RULESET_LENGTH_MAX));
+        assertTrue(function.execute(new LintTarget(new ArrayList<>(), "123")).passed,
+                "Expected the options of the rule when the function was created to be used");
+        assertThrows(UnsupportedOperationException.class,
+                () -> function.options.put(Constants.RULESET_LENGTH_MAX, 2));
+    }
 }
@@ -22,12 +22,15 @@ import org.junit.jupiter.api.Test;
 import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.document.LintTarget;
+import org.wso2.rule.validator.functions.FunctionFactory;
+import org.wso2.rule.validator.functions.InvalidCoreFunctionException;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -104,16 +107,14 @@ public class PatternFunctionTest {
     }
 
     /**
-     * Tests that the function throws an InvalidRulesetException for invalid regex flags.
+     * Tests that invalid regex flags are rejected when the function is created.
      */
     @Test
     public void testInvalidRegexFlags() {
         Map<String, Object> options = new HashMap<>();
         options.put(Constants.RULESET_PATTERN_MATCH, "/[abc]+/invalid");
 
-        PatternFunction patternFunction = new PatternFunction(options);
-        assertThrows(InvalidRulesetException.class,
-                () -> patternFunction.execute(new LintTarget(new ArrayList<>(), "aBc")));
+        assertThrows(InvalidCoreFunctionException.class, () -> FunctionFactory.getFunction("pattern", options));
     }
 
     /**
@@ -149,6 +150,26 @@ public class PatternFunctionTest {
         }
     }
 
+    /**
+     * Tests that the same function gives the right result for each of several targets.
+     */
+    @Test
+    public void testReusedForSeveralTargets() {
+        Map<String, Object> options = new HashMap<>();
+        options.put(Constants.RULESET_PATTERN_MATCH, "/^[a-z]+$/i");
+        options.put(Constants.RULESET_PATTERN_NOT_MATCH, "^x");
+
+        PatternFunction patternFunction = new PatternFunction(options);
+        try {
+            assertTrue(patternFunction.execute(new LintTarget(new ArrayList<>(), "Abc")).passed);
+            assertFalse(patternFunction.execute(new LintTarget(new ArrayList<>(), "xyz")).passed);
+            assertFalse(patternFunction.execute(new LintTarget(new ArrayList<>(), "a-b")).passed);
+            assertTrue(patternFunction.execute(new LintTarget(new ArrayList<>(), 12)).passed);
+        } catch (InvalidRulesetException e) {
+            fail("Execution should not throw an exception.");
+        }
+    }
+
     /**
      * Tests that the function does not throw an exception for valid function options.
      */
@@ -172,43 +193,31 @@ public class PatternFunctionTest {
     }
 
     /**
-     * Tests that the function throws an InvalidRulesetException for invalid function options.
+     * Tests that invalid function options are rejected when the function is created.
      */
     @Test
     public void testInvalidFunctionOptions() {
         Map<String, Object> options1 = null;
-        PatternFunction patternFunction1 = new PatternFunction(options1);
-        assertThrows(InvalidRulesetException.class,
-                () -> patternFunction1.execute(new LintTarget(new ArrayList<>(), "abc")));
+        assertThrows(InvalidCoreFunctionException.class, () -> FunctionFactory.getFunction("pattern", options1));
 
         Map<String, Object> options2 = new HashMap<>();
-        PatternFunction patternFunction2 = new PatternFunction(options2);
-        assertThrows(InvalidRulesetException.class,
-                () -> patternFunction2.execute(new LintTarget(new ArrayList<>(), "abc")));
+        assertThrows(InvalidCoreFunctionException.class, () -> FunctionFactory.getFunction("pattern", options2));
 
         Map<String, Object> options3 = new HashMap<>();
         options3.put("foo", true);
-        PatternFunction patternFunction3 = new PatternFunction(options3);
-        assertThrows(InvalidRulesetException.class,
-                () -> patternFunction3.execute(new LintTarget(new ArrayList<>(), "abc")));
+        assertThrows(InvalidCoreFunctionException.class, () -> FunctionFactory.getFunction("pattern", options3));
 
         Map<String, Object> options4 = new HashMap<>();
         options4.put(Constants.RULESET_PATTERN_MATCH, 2);
-        PatternFunction patternFunction4 = new PatternFunction(options4);
-        assertThrows(InvalidRulesetException.class,
-                () -> patternFunction4.execute(new LintTarget(new ArrayList<>(), "abc")));
+        assertThrows(InvalidCoreFunctionException.class, () -> FunctionFactory.getFunction("pattern", options4));
 
         Map<String, Object> options5 = new HashMap<>();
         options5.put(Constants.RULESET_PATTERN_NOT_MATCH, null);
-        PatternFunction patternFunction5 = new PatternFunction(options5);
-        assertThrows(InvalidRulesetException.class,
-                () -> patternFunction5.execute(new LintTarget(new ArrayList<>(), "abc")));
+        assertThrows(InvalidCoreFunctionException.class, () -> FunctionFactory.getFunction("pattern", options5));
 
         Map<String, Object> options6 = new HashMap<>();
         options6.put(Constants.RULESET_PATTERN_MATCH, 4);
         options6.put(Constants.RULESET_PATTERN_NOT_MATCH, 10);
-        PatternFunction patternFunction6 = new PatternFunction(options6);
-        assertThrows(InvalidRulesetException.class,
-                () -> patternFunction6.execute(new LintTarget(new ArrayList<>(), "abc")));
+        assertThrows(InvalidCoreFunctionException.class, () -> FunctionFactory.getFunction("pattern", options6));
     }
 }
@@ -22,12 +22,18 @@ import org.junit.jupiter.api.Test;
 import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.document.LintTarget;
+import org.wso2.rule.validator.functions.FunctionFactory;
+import org.wso2.rule.validator.functions.InvalidCoreFunctionException;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -134,4 +140,40 @@ public class SchemaFunctionTest {
             fail("Execution should not throw an exception.");
         }
     }
+
+    /**
+     * Tests that functions with the same schema validate each of several targets.
+     */
+    @Test
+    public void validatesSeveralTargetsWithSharedSchema() {
+        Map<String, Object> schema = new HashMap<>();
+        schema.put("type", "object");
+        schema.put("required", List.of("name"));
+
+        SchemaFunction first = new SchemaFunction(Map.of(Constants.RULESET_SCHEMA_SCHEMA, schema));
+        SchemaFunction second = new SchemaFunction(Map.of(Constants.RULESET_SCHEMA_SCHEMA, new HashMap<>(schema)));
+
+        try {
+            assertTrue(first.execute(new LintTarget(new ArrayList<>(), Map.of("name", "a"))).passed);
+            assertFalse(first.execute(new LintTarget(new ArrayList<>(), Map.of("id", "a"))).passed);
+            assertTrue(second.execute(new LintTarget(new ArrayList<>(), Map.of("name", "b"))).passed);
+            assertFalse(second.execute(new LintTarget(new ArrayList<>(), List.of("name"))).passed);
+        } catch (InvalidRulesetException e) {
+            fail("Execution should not throw an exception.");
+        }
+    }
+
+    /**
+     * Tests that a schema that cannot be loaded is reported as an invalid option, and that the function is not
+     * created with it.
+     */
+    @Test
+    public void reportsInvalidSchema() {
+        SchemaFunction schemaFunction = new SchemaFunction(Map.of(Constants.RULESET_SCHEMA_SCHEMA, "string"));
+
+        assertEquals(List.of("Schema function should contain a valid JSON schema."),
+                schemaFunction.validateFunctionOptions());
+        assertThrows(InvalidCoreFunctionException.class,
+                () -> FunctionFactory.getFunction("schema", Map.of(Constants.RULESET_SCHEMA_SCHEMA, "string")));
+    }
 }
@@ -21,7 +21,9 @@ package org.wso2.rule.validator.functions.core;
 import org.junit.jupiter.api.Test;
 import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.document.LintTarget;
+import org.wso2.rule.validator.functions.FunctionFactory;
 import org.wso2.rule.validator.functions.FunctionResult;
+import org.wso2.rule.validator.functions.InvalidCoreFunctionException;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -82,16 +84,13 @@ public class TruthyFunctionTest {
     }
 
     /**
-     * Tests that the function throws an InvalidRulesetException for invalid options.
+     * Tests that invalid options are rejected when the function is created.
      */
     @Test
     public void validationTestForInvalidOptions() {
         Map<String, Object> invalidOption = Map.of("unsupportedKey", true);
 
-        TruthyFunction function = new TruthyFunction(invalidOption);
-        LintTarget target = new LintTarget(new ArrayList<>(), null);
-
-        assertThrows(InvalidRulesetException.class, () -> function.execute(target),
-                "Expected InvalidRulesetException for invalid option: " + invalidOption);
+        assertThrows(InvalidCoreFunctionException.class, () -> FunctionFactory.getFunction("truthy", invalidOption),
+                "Expected InvalidCoreFunctionException for invalid option: " + invalidOption);
     }
 }
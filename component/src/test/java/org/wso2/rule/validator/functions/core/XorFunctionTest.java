@@ -22,6 +22,8 @@ import org.junit.jupiter.api.Test;
 import org.wso2.rule.validator.Constants;
 import org.wso2.rule.validator.InvalidRulesetException;
 import org.wso2.rule.validator.document.LintTarget;
+import org.wso2.rule.validator.functions.FunctionFactory;
+import org.wso2.rule.validator.functions.InvalidCoreFunctionException;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -157,7 +159,7 @@ public class XorFunctionTest {
     }
 
     /**
-     * Tests that invalid function options throw an InvalidRulesetException.
+     * Tests that invalid function options are rejected when the function is created.
      */
     @Test
     public void givenInvalidOptionsShouldThrow() {
@@ -167,14 +169,11 @@ public class XorFunctionTest {
                 Map.of(Constants.RULESET_XOR_PROPERTIES, new ArrayList<>(List.of("foo", new HashMap<>()))),
                 Map.of(Constants.RULESET_XOR_PROPERTIES, new ArrayList<>(List.of("foo", "bar")), "foo", true));
 
-        assertThrows(InvalidRulesetException.class,
-                () -> new XorFunction(null).execute(new LintTarget(new ArrayList<>(), new HashMap<>())));
+        assertThrows(InvalidCoreFunctionException.class, () -> FunctionFactory.getFunction("xor", null));
 
         for (Object invalidOptions : invalidOptionsList) {
-            XorFunction xorFunction = new XorFunction((Map<String, Object>) invalidOptions);
-            LintTarget target = new LintTarget(new ArrayList<>(), new HashMap<>());
-
-            assertThrows(InvalidRulesetException.class, () -> xorFunction.execute(target));
+            assertThrows(InvalidCoreFunctionException.class,
+                    () -> FunctionFactory.getFunction("xor", (Map<String, Object>) invalidOptions));
         }
     }
 }
@@ -0,0 +1,543 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.generator;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.snakeyaml.engine.v2.api.Dump;
+import org.snakeyaml.engine.v2.api.DumpSettings;
+import org.snakeyaml.engine.v2.common.FlowStyle;
+import org.wso2.rule.validator.ruleset.Format;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates OpenAPI and AsyncAPI documents of a configurable size and shape, to test and benchmark the validator on
+ * large inputs. The content is generated from a seed, so a generator always produces the same document, and a share
+ * of its objects breaks common style rules, like real API definitions do. Schemas are written inline without
+ * references, so that their whole depth is part of the document tree.
+ */
+public final class SpecGenerator {
+
+    /**
+     * Formats of the documents that can be generated.
+     */
+    public static final List<Format> FORMATS = List.of(Format.OAS2, Format.OAS3_0, Format.OAS3_1, Format.AAS2,
+            Format.AAS3);
+
+    private static final String[] METHODS = {"get", "put", "post", "delete", "patch"};
+    private static final String[] RESOURCES = {"user", "order", "item", "account", "payment", "invoice", "product",
+            "review", "shipment", "subscription"};
+    private static final String[] PROPERTIES = {"name", "status", "amount", "created", "updated", "owner", "count",
+            "label", "region", "priority"};
+    private static final String[] TYPES = {"string", "integer", "number", "boolean"};
+    private static final int MAXIMUM_TAG_COUNT = 50;
+
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+    private static final DumpSettings DUMP_SETTINGS = DumpSettings.builder()
+            .setDefaultFlowStyle(FlowStyle.BLOCK).build();
+
+    /**
+     * Syntaxes the documents can be written in.
+     */
+    public enum Syntax {
+        YAML,
+        JSON
+    }
+
+    private final long seed;
+    private int pathCount = 10;
+    private int operationsPerPath = 2;
+    private int schemaDepth = 2;
+    private int schemaWidth = 3;
+    private int enumSize = 0;
+    private int componentCount = 5;
+    private double violationRate = 0.1;
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed seed of the generated content
+     */
+    public SpecGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public int getPathCount() {
+        return pathCount;
+    }
+
+    /**
+     * Sets the number of paths of OpenAPI documents, or channels of AsyncAPI documents.
+     *
+     * @param pathCount number of paths or channels
+     */
+    public void setPathCount(int pathCount) {
+        this.pathCount = requireAtLeast("pathCount", pathCount, 0);
+    }
+
+    public int getOperationsPerPath() {
+        return operationsPerPath;
+    }
+
+    /**
+     * Sets the number of operations of each path or channel. OpenAPI paths have up to five operations and AsyncAPI 2
+     * channels up to two.
+     *
+     * @param operationsPerPath number of operations
+     */
+    public void setOperationsPerPath(int operationsPerPath) {
+        this.operationsPerPath = requireAtLeast("operationsPerPath", operationsPerPath, 1);
+    }
+
+    public int getSchemaDepth() {
+        return schemaDepth;
+    }
+
+    /**
+     * Sets the number of levels of nested objects in the request, response, payload and component schemas.
+     *
+     * @param schemaDepth number of levels
+     */
+    public void setSchemaDepth(int schemaDepth) {
+        this.schemaDepth = requireAtLeast("schemaDepth", schemaDepth, 1);
+    }
+
+    public int getSchemaWidth() {
+        return schemaWidth;
+    }
+
+    /**
+     * Sets the number of properties of each level of the schemas.
+     *
+     * @param schemaWidth number of properties
+     */
+    public void setSchemaWidth(int schemaWidth) {
+        this.schemaWidth = requireAtLeast("schemaWidth", schemaWidth, 1);
+    }
+
+    public int getEnumSize() {
+        return enumSize;
+    }
+
+    /**
+     * Sets the number of values of the enumerated property added to the top level of the schemas. The property is
+     * left out when the size is 0.
+     *
+     * @param enumSize number of values
+     */
+    public void setEnumSize(int enumSize) {
+        this.enumSize = requireAtLeast("enumSize", enumSize, 0);
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * Sets the number of component schemas of OpenAPI documents, or component messages of AsyncAPI documents.
+     *
+     * @param componentCount number of components
+     */
+    public void setComponentCount(int componentCount) {
+        this.componentCount = requireAtLeast("componentCount", componentCount, 0);
+    }
+
+    public double getViolationRate() {
+        return violationRate;
+    }
+
+    /**
+     * Sets the probability of each object to break a style rule, for example by missing a description or by using a
+     * different casing.
+     *
+     * @param violationRate probability between 0 and 1
+     */
+    public void setViolationRate(double violationRate) {
+        if (violationRate < 0 || violationRate > 1) {
+            throw new IllegalArgumentException("violationRate should be between 0 and 1.");
+        }
+        this.violationRate = violationRate;
+    }
+
+    /**
+     * Generates a document.
+     *
+     * @param format format of the document, one of {@link #FORMATS}
+     * @param syntax syntax the document is written in
+     * @return document content
+     */
+    public String generate(Format format, Syntax syntax) {
+        Map<String, Object> content = generateContent(format);
+        if (syntax == Syntax.JSON) {
+            return GSON.toJson(content);
+        }
+        return new Dump(DUMP_SETTINGS).dumpToString(content);
+    }
+
+    /**
+     * Generates the content of a document as the maps and lists it is written from.
+     *
+     * @param format format of the document, one of {@link #FORMATS}
+     * @return document content
+     */
+    public Map<String, Object> generateContent(Format format) {
+        Random random = new Random(seed);
+        switch (format) {
+            case OAS2:
+                return createOpenApiDocument(random, format, "swagger", "2.0");
+            case OAS3_0:
+                return createOpenApiDocument(random, format, "openapi", "3.0.3");
+            case OAS3_1:
+                return createOpenApiDocument(random, format, "openapi", "3.1.0");
+            case AAS2:
+                return createAsyncApi2Document(random);
+            case AAS3:
+                return createAsyncApi3Document(random);
+            default:
+                throw new IllegalArgumentException("Documents of format " + format + " cannot be generated.");
+        }
+    }
+
+    private Map<String, Object> createOpenApiDocument(Random random, Format format, String versionKey,
+            String version) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put(versionKey, version);
+        document.put("info", createInfo(random, "API"));
+        if (format == Format.OAS2) {
+            document.put("host", "api.example.com");
+            document.put("basePath", "/v1");
+        } else {
+            document.put("servers", List.of(orderedMap("url", "https://api.example.com/v1")));
+        }
+
+        int tagCount = Math.max(1, Math.min(pathCount, MAXIMUM_TAG_COUNT));
+        List<Object> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            Map<String, Object> tag = new LinkedHashMap<>();
+            // A violation puts the tag before the previous one
+            tag.put("name", String.format("tag%03d", isViolation(random) && i > 0 ? i - 1 : i));
+            if (!isViolation(random)) {
+                tag.put("description", "Operations of group " + i + ".");
+            }
+            tags.add(tag);
+        }
+        document.put("tags", tags);
+
+        Map<String, Object> paths = new LinkedHashMap<>();
+        for (int i = 0; i < pathCount; i++) {
+            String resource = RESOURCES[i % RESOURCES.length];
+            String pathKey = isViolation(random) ? "/" + capitalize(resource) + "s_" + i + "/{id}" :
+                    "/" + resource + "s-" + i + "/{id}";
+            Map<String, Object> pathItem = new LinkedHashMap<>();
+            pathItem.put("parameters", List.of(createOpenApiParameter(format, "id", "path")));
+            for (int j = 0; j < Math.min(operationsPerPath, METHODS.length); j++) {
+                pathItem.put(METHODS[j], createOperation(random, format, METHODS[j], resource, i,
+                        String.format("tag%03d", i % tagCount)));
+            }
+            paths.put(pathKey, pathItem);
+        }
+        document.put("paths", paths);
+
+        Map<String, Object> schemas = new LinkedHashMap<>();
+        for (int i = 0; i < componentCount; i++) {
+            String name = capitalize(RESOURCES[i % RESOURCES.length]) + i;
+            schemas.put(isViolation(random) ? toSnakeCase(name) : name, createSchema(random, format, schemaDepth));
+        }
+        if (format == Format.OAS2) {
+            document.put("definitions", schemas);
+        } else {
+            document.put("components", orderedMap("schemas", schemas));
+        }
+        return document;
+    }
+
+    private Map<String, Object> createOperation(Random random, Format format, String method, String resource, int index,
+            String tag) {
+        Map<String, Object> operation = new LinkedHashMap<>();
+        String operationId = method + capitalize(resource) + index;
+        if (!isViolation(random)) {
+            operation.put("operationId", isViolation(random) ? toSnakeCase(operationId) : operationId);
+        }
+        operation.put("summary", isViolation(random) ?
+                "Operation on " + resource + " " + index + " whose summary is much longer than it should be, " +
+                        "to the point that it does not fit in a single line of the documentation." :
+                capitalize(method) + " " + resource + " " + index + ".");
+        if (!isViolation(random)) {
+            operation.put("description", "The " + method + " operation on the " + resource + " with the given id.");
+        }
+        operation.put("tags", List.of(tag));
+        if (isViolation(random)) {
+            operation.put("deprecated", true);
+        }
+        if (isViolation(random)) {
+            operation.put("x-internal", true);
+        }
+
+        List<Object> parameters = new ArrayList<>();
+        if ("get".equals(method)) {
+            parameters.add(createOpenApiParameter(format, "fields", isViolation(random) ? "body" : "query"));
+        }
+        boolean hasBody = "put".equals(method) || "post".equals(method) || "patch".equals(method);
+        if (hasBody && format == Format.OAS2) {
+            Map<String, Object> bodyParameter = new LinkedHashMap<>();
+            bodyParameter.put("name", "body");
+            bodyParameter.put("in", "body");
+            bodyParameter.put("required", true);
+            bodyParameter.put("schema", createSchema(random, format, schemaDepth));
+            parameters.add(bodyParameter);
+        } else if (hasBody) {
+            operation.put("requestBody", orderedMap("required", true, "content", createContent(random, format)));
+        }
+        if (!parameters.isEmpty()) {
+            operation.put("parameters", parameters);
+        }
+
+        Map<String, Object> responses = new LinkedHashMap<>();
+        Map<String, Object> response = new LinkedHashMap<>();
+        if (!isViolation(random)) {
+            response.put("description", "Successful response.");
+        }
+        if ("delete".equals(method)) {
+            responses.put("204", response);
+        } else {
+            if (format == Format.OAS2) {
+                response.put("schema", createSchema(random, format, schemaDepth));
+            } else {
+                response.put("content", createContent(random, format));
+            }
+            responses.put("post".equals(method) ? "201" : "200", response);
+        }
+        responses.put("404", orderedMap("description", "Not found."));
+        operation.put("responses", responses);
+        return operation;
+    }
+
+    private static Map<String, Object> createOpenApiParameter(Format format, String name, String in) {
+        Map<String, Object> parameter = new LinkedHashMap<>();
+        parameter.put("name", name);
+        parameter.put("in", in);
+        parameter.put("required", "path".equals(in));
+        if (format == Format.OAS2) {
+            parameter.put("type", "string");
+        } else {
+            parameter.put("schema", orderedMap("type", "string"));
+        }
+        return parameter;
+    }
+
+    private Map<String, Object> createContent(Random random, Format format) {
+        return orderedMap("application/json", orderedMap("schema", createSchema(random, format, schemaDepth)));
+    }
+
+    private Map<String, Object> createAsyncApi2Document(Random random) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("asyncapi", "2.6.0");
+        document.put("info", createInfo(random, "events"));
+        document.put("defaultContentType", "application/json");
+
+        Map<String, Object> channels = new LinkedHashMap<>();
+        for (int i = 0; i < pathCount; i++) {
+            String resource = RESOURCES[i % RESOURCES.length];
+            Map<String, Object> channel = new LinkedHashMap<>();
+            if (!isViolation(random)) {
+                channel.put("description", "Updates of " + resource + " " + i + ".");
+            }
+            channel.put("subscribe", createAsyncApi2Operation(random, "on", resource, i));
+            if (operationsPerPath > 1) {
+                channel.put("publish", createAsyncApi2Operation(random, "send", resource, i));
+            }
+            channels.put(resource + "s/" + i + "/updated", channel);
+        }
+        document.put("channels", channels);
+        document.put("components", orderedMap("messages", createComponentMessages(random, Format.AAS2)));
+        return document;
+    }
+
+    private Map<String, Object> createAsyncApi2Operation(Random random, String prefix, String resource, int index) {
+        Map<String, Object> operation = new LinkedHashMap<>();
+        String operationId = prefix + capitalize(resource) + "Updated" + index;
+        operation.put("operationId", isViolation(random) ? toSnakeCase(operationId) : operationId);
+        operation.put("summary", capitalize(resource) + " " + index + " was updated.");
+        operation.put("message", createMessage(random, Format.AAS2, capitalize(resource) + "Updated" + index));
+        return operation;
+    }
+
+    private Map<String, Object> createAsyncApi3Document(Random random) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("asyncapi", "3.0.0");
+        document.put("info", createInfo(random, "events"));
+        document.put("defaultContentType", "application/json");
+
+        Map<String, Object> channels = new LinkedHashMap<>();
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (int i = 0; i < pathCount; i++) {
+            String resource = RESOURCES[i % RESOURCES.length];
+            String channelId = resource + "Updated" + i;
+            String messageName = capitalize(resource) + "Updated" + i;
+            Map<String, Object> channel = new LinkedHashMap<>();
+            channel.put("address", resource + "s/" + i + "/updated");
+            if (!isViolation(random)) {
+                channel.put("description", "Updates of " + resource + " " + i + ".");
+            }
+            channel.put("messages", orderedMap(messageName, createMessage(random, Format.AAS3, messageName)));
+            channels.put(channelId, channel);
+
+            for (int j = 0; j < operationsPerPath; j++) {
+                String action = j % 2 == 0 ? "receive" : "send";
+                Map<String, Object> operation = new LinkedHashMap<>();
+                operation.put("action", action);
+                operation.put("channel", orderedMap("$ref", "#/channels/" + channelId));
+                operation.put("summary", capitalize(action) + "s updates of " + resource + " " + i + ".");
+                operation.put("messages", List.of(orderedMap("$ref",
+                        "#/channels/" + channelId + "/messages/" + messageName)));
+                String operationId = action + capitalize(channelId) + (j < 2 ? "" : "Replay" + j);
+                operations.put(isViolation(random) ? toSnakeCase(operationId) : operationId, operation);
+            }
+        }
+        document.put("channels", channels);
+        document.put("operations", operations);
+        document.put("components", orderedMap("messages", createComponentMessages(random, Format.AAS3)));
+        return document;
+    }
+
+    private Map<String, Object> createComponentMessages(Random random, Format format) {
+        Map<String, Object> messages = new LinkedHashMap<>();
+        for (int i = 0; i < componentCount; i++) {
+            String name = capitalize(RESOURCES[i % RESOURCES.length]) + "Created" + i;
+            messages.put(isViolation(random) ? toSnakeCase(name) : name, createMessage(random, format, name));
+        }
+        return messages;
+    }
+
+    private Map<String, Object> createMessage(Random random, Format format, String name) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("name", isViolation(random) ? toSnakeCase(name) : name);
+        message.put("contentType", "application/json");
+        message.put("payload", createSchema(random, format, schemaDepth));
+        return message;
+    }
+
+    private Map<String, Object> createInfo(Random random, String kind) {
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("title", "Generated " + kind);
+        info.put("description", isViolation(random) ? "Short." :
+                "Generated " + kind + " with " + pathCount + " paths and " + componentCount + " components.");
+        info.put("version", isViolation(random) ? "v1" : "1.0.0");
+        if (!isViolation(random)) {
+            info.put("contact", orderedMap("name", "API team", "email", "api@example.com"));
+        }
+        return info;
+    }
+
+    /**
+     * Creates an object schema with a nested object as its second property, down to the given depth, so that the
+     * size of the schema grows linearly with its depth.
+     */
+    private Map<String, Object> createSchema(Random random, Format format, int depth) {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        if (!isViolation(random)) {
+            schema.put("type", "object");
+        }
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("id", orderedMap("type", "string", "format", "uuid"));
+        for (int i = 1; i < schemaWidth; i++) {
+            String name = PROPERTIES[random.nextInt(PROPERTIES.length)] + i;
+            properties.put(name, i == 1 && depth > 1 ? createSchema(random, format, depth - 1) :
+                    createScalarSchema(random, format));
+        }
+        if (enumSize > 0 && depth == schemaDepth) {
+            List<Object> values = new ArrayList<>(enumSize);
+            for (int i = 0; i < enumSize; i++) {
+                values.add(PROPERTIES[i % PROPERTIES.length] + "-" + i);
+            }
+            properties.put("kind", orderedMap("type", "string", "enum", values));
+        }
+        schema.put("properties", properties);
+        schema.put("required", List.of("id"));
+        return schema;
+    }
+
+    private Map<String, Object> createScalarSchema(Random random, Format format) {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        String type = TYPES[random.nextInt(TYPES.length)];
+        boolean nullable = random.nextInt(4) == 0;
+        if (nullable && format == Format.OAS3_1) {
+            schema.put("type", List.of(type, "null"));
+        } else {
+            schema.put("type", type);
+            if (nullable && format == Format.OAS3_0) {
+                schema.put("nullable", true);
+            }
+        }
+        if ("string".equals(type)) {
+            schema.put("maxLength", 256);
+        } else if ("integer".equals(type)) {
+            schema.put("format", "int64");
+        }
+        return schema;
+    }
+
+    private boolean isViolation(Random random) {
+        return random.nextDouble() < violationRate;
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    private static String toSnakeCase(String identifier) {
+        StringBuilder snakeCase = new StringBuilder(identifier.length() + 8);
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) {
+                    snakeCase.append('_');
+                }
+                snakeCase.append(Character.toLowerCase(c));
+            } else {
+                snakeCase.append(c);
+            }
+        }
+        return snakeCase.toString();
+    }
+
+    /**
+     * Creates a map from keys and values. Unlike {@code Map.of}, the map keeps the order of its entries, so that the
+     * generated content does not depend on the JVM it is generated on.
+     */
+    private static Map<String, Object> orderedMap(Object... keysAndValues) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+
+    private static int requireAtLeast(String name, int value, int minimum) {
+        if (value < minimum) {
+            throw new IllegalArgumentException(name + " should be at least " + minimum + ".");
+        }
+        return value;
+    }
+}
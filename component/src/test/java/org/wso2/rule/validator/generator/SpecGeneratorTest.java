@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.generator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.wso2.rule.validator.ruleset.Format;
+import org.wso2.rule.validator.utils.Util;
+import org.wso2.rule.validator.validator.ValidationOptions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the {@link SpecGenerator} class.
+ */
+public class SpecGeneratorTest {
+
+    private static Stream<Format> provideFormats() {
+        return SpecGenerator.FORMATS.stream();
+    }
+
+    /**
+     * Tests that generators with the same seed generate the same document, and generators with different seeds do not.
+     *
+     * @param format format of the generated document
+     */
+    @ParameterizedTest
+    @MethodSource("provideFormats")
+    public void generatesSameDocumentFromSameSeed(Format format) {
+        String document = new SpecGenerator(7L).generate(format, SpecGenerator.Syntax.YAML);
+
+        assertEquals(document, new SpecGenerator(7L).generate(format, SpecGenerator.Syntax.YAML));
+        assertNotEquals(document, new SpecGenerator(8L).generate(format, SpecGenerator.Syntax.YAML));
+    }
+
+    /**
+     * Tests that the YAML and JSON documents have the same content.
+     *
+     * @param format format of the generated document
+     */
+    @ParameterizedTest
+    @MethodSource("provideFormats")
+    public void writesSameContentInYamlAndJson(Format format) {
+        SpecGenerator generator = new SpecGenerator(7L);
+        generator.setEnumSize(4);
+
+        Object yamlContent = Util.loadYaml(generator.generate(format, SpecGenerator.Syntax.YAML),
+                ValidationOptions.defaults());
+        Object jsonContent = Util.loadYaml(generator.generate(format, SpecGenerator.Syntax.JSON),
+                ValidationOptions.defaults());
+
+        assertEquals(yamlContent, jsonContent);
+    }
+
+    /**
+     * Tests that documents have the configured number of paths, operations and components, and schemas of the
+     * configured shape.
+     */
+    @Test
+    public void generatesConfiguredShape() {
+        SpecGenerator generator = new SpecGenerator(7L);
+        generator.setPathCount(25);
+        generator.setOperationsPerPath(3);
+        generator.setComponentCount(12);
+        generator.setSchemaDepth(4);
+        generator.setSchemaWidth(5);
+        generator.setEnumSize(30);
+
+        Map<String, Object> openApi = generator.generateContent(Format.OAS3_0);
+        Map<String, Object> paths = (Map<String, Object>) openApi.get("paths");
+        assertEquals(25, paths.size());
+        for (Object pathItem : paths.values()) {
+            // Path parameters and three operations
+            assertEquals(4, ((Map<String, Object>) pathItem).size());
+        }
+        Map<String, Object> schemas = (Map<String, Object>) ((Map<String, Object>) openApi.get("components"))
+                .get("schemas");
+        assertEquals(12, schemas.size());
+        for (Object schema : schemas.values()) {
+            Map<String, Object> properties = (Map<String, Object>) ((Map<String, Object>) schema).get("properties");
+            // Configured properties and the enumerated property
+            assertEquals(6, properties.size());
+            assertEquals(30, ((List<Object>) ((Map<String, Object>) properties.get("kind")).get("enum")).size());
+            assertEquals(4, getDepth((Map<String, Object>) schema));
+        }
+
+        Map<String, Object> asyncApi2 = generator.generateContent(Format.AAS2);
+        assertEquals(25, ((Map<String, Object>) asyncApi2.get("channels")).size());
+        assertEquals(12, ((Map<String, Object>) ((Map<String, Object>) asyncApi2.get("components"))
+                .get("messages")).size());
+
+        Map<String, Object> asyncApi3 = generator.generateContent(Format.AAS3);
+        assertEquals(25, ((Map<String, Object>) asyncApi3.get("channels")).size());
+        assertEquals(75, ((Map<String, Object>) asyncApi3.get("operations")).size());
+    }
+
+    /**
+     * Tests that invalid settings and formats are rejected.
+     */
+    @Test
+    public void rejectsInvalidSettings() {
+        SpecGenerator generator = new SpecGenerator(7L);
+
+        assertThrows(IllegalArgumentException.class, () -> generator.setPathCount(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.setSchemaDepth(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.setViolationRate(1.5));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(Format.JSON_SCHEMA,
+                SpecGenerator.Syntax.YAML));
+    }
+
+    private static int getDepth(Map<String, Object> schema) {
+        int depth = 0;
+        for (Object property : ((Map<String, Object>) schema.get("properties")).values()) {
+            if (((Map<String, Object>) property).containsKey("properties")) {
+                depth = Math.max(depth, getDepth((Map<String, Object>) property));
+            }
+        }
+        return depth + 1;
+    }
+}
@@ -22,19 +22,26 @@ import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.snakeyaml.engine.v2.api.Load;
 import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.wso2.rule.validator.DiagnosticSeverity;
 import org.wso2.rule.validator.InvalidContentTypeException;
+import org.wso2.rule.validator.InvalidRulesetException;
+import org.wso2.rule.validator.document.TraversalPlan;
 import org.wso2.rule.validator.validator.ValidationOptions;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.wso2.rule.validator.validator.Validator.validateRuleset;
@@ -167,6 +174,100 @@ public class RulesetTest {
         }
     }
 
+    /**
+     * Tests that rule aliases are resolved separately for each list of document formats without changing the rule.
+     */
+    @Test
+    public void resolvesGivenPerDocumentFormats() throws InvalidRulesetException {
+        String rulesetContent = "aliases:\n" +
+                "  ParameterObject:\n" +
+                "    targets:\n" +
+                "      - formats:\n" +
+                "          - oas2\n" +
+                "        given:\n" +
+                "          - $.parameters[*]\n" +
+                "      - formats:\n" +
+                "          - oas3\n" +
+                "        given:\n" +
+                "          - $.components.parameters[*]\n" +
+                "rules:\n" +
+                "  parameter-description:\n" +
+                "    given: \"#ParameterObject\"\n" +
+                "    then:\n" +
+                "      field: description\n" +
+                "      function: truthy\n";
+        Map<String, Object> rulesetMap = (Map<String, Object>) (new Load(
+                LoadSettings.builder().build())).loadFromString(rulesetContent);
+        Rule rule = new Ruleset(rulesetMap).rules.get("parameter-description");
+
+        List<String> oas2Given = rule.getResolvedGiven(List.of(Format.OAS2));
+        List<String> oas3Given = rule.getResolvedGiven(List.of(Format.OAS3, Format.OAS3_0));
+
+        assertEquals(List.of("$.parameters[*]"), oas2Given);
+        assertEquals(List.of("$.components.parameters[*]"), oas3Given);
+        assertSame(oas2Given, rule.getResolvedGiven(new ArrayList<>(List.of(Format.OAS2))));
+        assertEquals(List.of("#ParameterObject"), rule.given);
+    }
+
+    /**
+     * Tests that a traversal plan only contains the rules that apply to the document formats and is shared by documents
+     * of the same formats.
+     */
+    @Test
+    public void sharesTraversalPlanPerFormats() throws InvalidRulesetException {
+        Map<String, Object> then = Map.of("field", "info.contact", "function", "truthy");
+        Map<String, Object> rules = new LinkedHashMap<>();
+        rules.put("any-format", Map.of("given", "$", "then", then));
+        rules.put("oas2-only", Map.of("given", "$", "formats", List.of("oas2"), "then", then));
+        Ruleset ruleset = new Ruleset(Map.of("rules", rules));
+
+        TraversalPlan oas2Plan = ruleset.getTraversalPlan(List.of(Format.OAS2));
+        TraversalPlan oas3Plan = ruleset.getTraversalPlan(List.of(Format.OAS3, Format.OAS3_0));
+
+        assertSame(oas2Plan, ruleset.getTraversalPlan(new ArrayList<>(List.of(Format.OAS2))));
+        assertEquals(2, oas2Plan.getRules().size());
+        assertEquals(1, oas3Plan.getRules().size());
+        assertEquals("any-format", oas3Plan.getRules().get(0).name);
+        assertEquals(2, ruleset.getTraversalPlan(null).getRules().size());
+    }
+
+    /**
+     * Tests that rules that are turned off or below the minimum severity are left out of the ruleset.
+     */
+    @Test
+    public void prunesRulesBelowMinimumSeverity() throws InvalidRulesetException {
+        Map<String, Object> then = Map.of("field", "info.contact", "function", "truthy");
+        Map<String, Object> rules = new LinkedHashMap<>();
+        rules.put("error-rule", Map.of("given", "$", "severity", "error", "then", then));
+        rules.put("warn-rule", Map.of("given", "$", "then", then));
+        rules.put("hint-rule", Map.of("given", "$", "severity", "hint", "then", then));
+        rules.put("off-rule", Map.of("given", "$", "severity", "off", "then", then));
+
+        Ruleset ruleset = new Ruleset(Map.of("rules", rules));
+        assertEquals(List.of("error-rule", "warn-rule", "hint-rule"), new ArrayList<>(ruleset.rules.keySet()));
+
+        Ruleset errorRuleset = new Ruleset(Map.of("rules", rules), DiagnosticSeverity.WARN);
+        assertEquals(List.of("error-rule", "warn-rule"), new ArrayList<>(errorRuleset.rules.keySet()));
+        assertEquals(2, errorRuleset.getTraversalPlan(null).getRules().size());
+
+        Map<String, Object> invalidThen = Map.of("function", "pattern", "functionOptions", Map.of("match", 2));
+        rules.put("invalid-hint-rule", Map.of("given", "$", "severity", "hint", "then", invalidThen));
+        assertFalse(new Ruleset(Map.of("rules", rules), DiagnosticSeverity.ERROR).isInitialized());
+    }
+
+    /**
+     * Tests that invalid function options fail while the ruleset is built rather than while documents are linted.
+     */
+    @Test
+    public void failsOnInvalidFunctionOptions() {
+        Map<String, Object> then = Map.of("function", "pattern", "functionOptions", Map.of("match", 2));
+        Ruleset ruleset = new Ruleset(Map.of("rules", Map.of("invalid-pattern", Map.of("given", "$", "then", then))));
+
+        assertFalse(ruleset.isInitialized());
+        assertEquals("Function options are invalid: [Pattern function match option must be a string.]",
+                ruleset.getInitializationErrorMessage());
+    }
+
     /**
      * Tests that invalid JSON and YAML rulesets with circular aliases are correctly identified.
      */
@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.validator;
+
+import org.junit.jupiter.api.Test;
+import org.wso2.rule.validator.InvalidRulesetException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test class for the {@link BatchValidator} class.
+ */
+public class BatchValidatorTest {
+
+    private static final String RULESET = "rules:\n" +
+            "  info-contact:\n" +
+            "    given: \"$.info\"\n" +
+            "    then:\n" +
+            "      field: contact\n" +
+            "      function: truthy\n";
+
+    /**
+     * Tests that every document gets the same result as when it is validated on its own, and that documents are only
+     * read while fewer documents than the concurrency are in flight.
+     */
+    @Test
+    public void validatesEveryDocumentWithBoundedDocumentsInFlight() throws Exception {
+        int concurrency = 3;
+        List<String> documents = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            documents.add(i % 4 == 0 ? "openapi: 3.0.0\ninfo:\n  title: test\n  contact:\n    name: a\n" :
+                    "openapi: 3.0.0\ninfo:\n  title: doc " + i + "\n");
+        }
+
+        AtomicInteger readCount = new AtomicInteger();
+        AtomicInteger deliveredCount = new AtomicInteger();
+        Iterator<String> documentIterator = documents.iterator();
+        Iterator<String> countingIterator = new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return documentIterator.hasNext();
+            }
+
+            @Override
+            public String next() {
+                int inFlight = readCount.incrementAndGet() - deliveredCount.get();
+                assertTrue(inFlight <= concurrency, "Too many documents in flight: " + inFlight);
+                return documentIterator.next();
+            }
+        };
+
+        Map<Long, BatchValidationResult> results = new HashMap<>();
+        BatchValidator.validateDocuments(countingIterator, RULESET, ValidationOptions.defaults(), concurrency,
+                result -> {
+                    results.put(result.getIndex(), result);
+                    deliveredCount.incrementAndGet();
+                });
+
+        assertEquals(documents.size(), results.size());
+        for (int i = 0; i < documents.size(); i++) {
+            BatchValidationResult result = results.get((long) i);
+            assertTrue(result.isSuccessful());
+            assertEquals(Validator.validateDocument(documents.get(i), RULESET, ValidationOptions.defaults()),
+                    result.getResult());
+        }
+    }
+
+    /**
+     * Tests that a document that cannot be validated is reported without stopping the batch, and that an invalid
+     * ruleset is rejected before any document is read.
+     */
+    @Test
+    public void reportsDocumentErrors() throws Exception {
+        List<BatchValidationResult> results = new ArrayList<>();
+        BatchValidator.validateDocuments(List.of("openapi: 3.0.0\ninfo:\n  title: test\n", "key: [unclosed").iterator(),
+                RULESET, ValidationOptions.defaults(), 2, results::add);
+
+        assertEquals(2, results.size());
+        results.sort((first, second) -> Long.compare(first.getIndex(), second.getIndex()));
+        assertTrue(results.get(0).isSuccessful());
+        assertFalse(results.get(1).isSuccessful());
+        assertNull(results.get(1).getResult());
+
+        Iterator<String> noDocuments = List.<String>of().iterator();
+        assertThrows(InvalidRulesetException.class, () -> BatchValidator.validateDocuments(noDocuments,
+                "rules:\n  no-given:\n    then:\n      function: truthy\n", ValidationOptions.defaults(), 2,
+                result -> { }));
+        assertThrows(IllegalArgumentException.class, () -> BatchValidator.validateDocuments(noDocuments,
+                Validator.compileRuleset(RULESET, ValidationOptions.defaults()), ValidationOptions.defaults(), 0,
+                result -> { }));
+    }
+
+    /**
+     * Tests that an exception thrown while reading the documents is thrown without any result being passed to the
+     * listener afterwards, and that an executor of the caller can be reused for other batches.
+     */
+    @Test
+    public void stopsDeliveringResultsWhenDocumentsCannotBeRead() throws Exception {
+        String document = "openapi: 3.0.0\ninfo:\n  title: test\n";
+        CompiledRuleset compiledRuleset = Validator.compileRuleset(RULESET, ValidationOptions.defaults());
+        Iterator<String> failingDocuments = new Iterator<String>() {
+            private int readCount;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public String next() {
+                if (readCount++ == 10) {
+                    throw new IllegalStateException("Cannot read document");
+                }
+                return document;
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            AtomicInteger deliveredCount = new AtomicInteger();
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> BatchValidator.validateDocuments(failingDocuments, compiledRuleset,
+                            ValidationOptions.defaults(), 4, result -> deliveredCount.incrementAndGet(), executor));
+            assertEquals("Cannot read document", exception.getMessage());
+            int delivered = deliveredCount.get();
+
+            List<BatchValidationResult> results = new ArrayList<>();
+            BatchValidator.validateDocuments(List.of(document).iterator(), compiledRuleset,
+                    ValidationOptions.defaults(), 4, results::add, executor);
+            assertEquals(1, results.size());
+
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(delivered, deliveredCount.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.rule.validator.validator;
+
+import org.junit.jupiter.api.Test;
+import org.wso2.rule.validator.InvalidContentTypeException;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test class for the {@link RulesetCache} class.
+ */
+public class RulesetCacheTest {
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private RulesetCache.Entry load(String rulesetString, ValidationOptions validationOptions,
+                                    long estimatedSizeInBytes) {
+        loadCount.incrementAndGet();
+        return new RulesetCache.Entry(new ArrayList<>(), null, null, estimatedSizeInBytes);
+    }
+
+    /**
+     * Tests that identical ruleset content is loaded only once.
+     */
+    @Test
+    public void returnsCachedEntryForSameContent() throws InvalidContentTypeException {
+        RulesetCache cache = new RulesetCache(4, Long.MAX_VALUE);
+        RulesetCache.Entry first = cache.get("rules: {}", ValidationOptions.defaults(), this::load);
+        RulesetCache.Entry second = cache.get("rules: {}", null, this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loadCount.get());
+        RulesetCacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(1, statistics.getEntryCount());
+    }
+
+    /**
+     * Tests that the same content compiled with different options is cached separately.
+     */
+    @Test
+    public void separatesEntriesByValidationOptions() throws InvalidContentTypeException {
+        RulesetCache cache = new RulesetCache(4, Long.MAX_VALUE);
+        ValidationOptions limited = new ValidationOptions();
+        limited.setYamlCodePointLimit(1024);
+
+        RulesetCache.Entry first = cache.get("rules: {}", ValidationOptions.defaults(), this::load);
+        RulesetCache.Entry second = cache.get("rules: {}", limited, this::load);
+
+        assertNotSame(first, second);
+        assertEquals(2, loadCount.get());
+    }
+
+    /**
+     * Tests that the least recently used entry is evicted when the entry limit is reached.
+     */
+    @Test
+    public void evictsLeastRecentlyUsedEntry() throws InvalidContentTypeException {
+        RulesetCache cache = new RulesetCache(2, Long.MAX_VALUE);
+        cache.get("a", null, this::load);
+        cache.get("b", null, this::load);
+        cache.get("a", null, this::load);
+        cache.get("c", null, this::load);
+        assertEquals(3, loadCount.get());
+
+        cache.get("a", null, this::load);
+        assertEquals(3, loadCount.get(), "Recently used entry should not be evicted");
+        cache.get("b", null, this::load);
+        assertEquals(4, loadCount.get(), "Least recently used entry should be evicted");
+        assertEquals(2, cache.getStatistics().getEvictionCount());
+    }
+
+    /**
+     * Tests that entries are evicted when the estimated size limit is exceeded.
+     */
+    @Test
+    public void evictsEntriesAboveSizeLimit() throws InvalidContentTypeException {
+        RulesetCache cache = new RulesetCache(16, 1);
+        cache.get("a", null, this::load);
+        cache.get("a", null, this::load);
+
+        assertEquals(2, loadCount.get());
+        RulesetCacheStatistics statistics = cache.getStatistics();
+        assertEquals(0, statistics.getEntryCount());
+        assertEquals(0, statistics.getEstimatedSizeInBytes());
+        assertEquals(2, statistics.getEvictionCount());
+    }
+
+    /**
+     * Tests that a cache without capacity never retains entries.
+     */
+    @Test
+    public void doesNotCacheWhenDisabled() throws InvalidContentTypeException {
+        RulesetCache cache = new RulesetCache(0, Long.MAX_VALUE);
+        cache.get("a", null, this::load);
+        cache.get("a", null, this::load);
+
+        assertEquals(2, loadCount.get());
+        assertEquals(0, cache.getStatistics().getEntryCount());
+    }
+}
@@ -19,16 +19,44 @@
 package org.wso2.rule.validator.validator;
 
 import org.junit.jupiter.api.Test;
+import org.wso2.rule.validator.DiagnosticSeverity;
+import org.wso2.rule.validator.InvalidContentTypeException;
+import org.wso2.rule.validator.InvalidRulesetException;
+import org.wso2.rule.validator.document.Document;
+import org.wso2.rule.validator.document.LintProfile;
+import org.wso2.rule.validator.document.RuleProfile;
+import org.wso2.rule.validator.functions.LintResult;
+import org.wso2.rule.validator.metrics.Counter;
+import org.wso2.rule.validator.metrics.Histogram;
+import org.wso2.rule.validator.metrics.MetricsRegistry;
+import org.wso2.rule.validator.metrics.Timer;
+import org.wso2.rule.validator.metrics.ValidatorMetrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 public class ValidatorTest {
@@ -51,6 +79,420 @@ public class ValidatorTest {
         }
     }
 
+    @Test
+    public void compiledRulesetGivesSameResultsForEveryDocument() throws InvalidRulesetException,
+            InvalidContentTypeException {
+        String ruleset = "aliases:\n" +
+                "  Info:\n" +
+                "    description: info object\n" +
+                "    targets:\n" +
+                "      - formats: [oas2]\n" +
+                "        given: [\"$.info\"]\n" +
+                "      - formats: [oas3]\n" +
+                "        given: [\"$.info\"]\n" +
+                "rules:\n" +
+                "  info-contact:\n" +
+                "    given: \"#Info\"\n" +
+                "    severity: error\n" +
+                "    then:\n" +
+                "      field: contact\n" +
+                "      function: truthy\n";
+        String oas2Document = "swagger: \"2.0\"\ninfo:\n  title: test\n";
+        String oas3Document = "openapi: 3.0.0\ninfo:\n  title: test\n  contact:\n    name: test\n";
+
+        ValidationOptions validationOptions = ValidationOptions.defaults();
+        CompiledRuleset compiledRuleset = Validator.compileRuleset(ruleset, validationOptions);
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(Validator.validateDocument(oas2Document, ruleset, validationOptions),
+                    Validator.validateDocument(oas2Document, compiledRuleset, validationOptions));
+            assertEquals(Validator.validateDocument(oas3Document, ruleset, validationOptions),
+                    Validator.validateDocument(oas3Document, compiledRuleset, validationOptions));
+        }
+    }
+
+    @Test
+    public void parallelValidationGivesSameResultsAsSequentialValidation() throws InvalidRulesetException,
+            InvalidContentTypeException {
+        String ruleset = "rules:\n" +
+                "  operation-id-casing:\n" +
+                "    given: \"$.paths[*][*]\"\n" +
+                "    then:\n" +
+                "      field: operationId\n" +
+                "      function: casing\n" +
+                "      functionOptions:\n" +
+                "        type: camel\n" +
+                "  operation-description:\n" +
+                "    given: \"$.paths[*][*]\"\n" +
+                "    then:\n" +
+                "      field: description\n" +
+                "      function: truthy\n" +
+                "  info-contact:\n" +
+                "    given: \"$.info\"\n" +
+                "    then:\n" +
+                "      field: contact\n" +
+                "      function: truthy\n";
+        StringBuilder document = new StringBuilder("openapi: 3.0.0\ninfo:\n  title: test\npaths:\n");
+        for (int i = 0; i < 300; i++) {
+            document.append("  /path").append(i).append(":\n    get:\n      operationId: ")
+                    .append(i % 3 == 0 ? "Get_path" : "getPath").append(i).append("\n");
+            if (i % 2 == 0) {
+                document.append("      description: path ").append(i).append("\n");
+            }
+        }
+
+        String sequentialResult = Validator.validateDocument(document.toString(), ruleset,
+                ValidationOptions.defaults());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            ValidationOptions parallelOptions = ValidationOptions.defaults();
+            parallelOptions.setParallelism(4);
+            parallelOptions.setExecutor(executor);
+            assertEquals(sequentialResult, Validator.validateDocument(document.toString(), ruleset, parallelOptions));
+
+            // Tasks rejected by the executor are linted by the calling thread
+            parallelOptions.setExecutor(task -> {
+                throw new RejectedExecutionException();
+            });
+            assertEquals(sequentialResult, Validator.validateDocument(document.toString(), ruleset, parallelOptions));
+        } finally {
+            executor.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class, () -> ValidationOptions.defaults().setParallelism(0));
+    }
+
+    @Test
+    public void streamedResultsMatchReturnedResults() throws InvalidRulesetException, InvalidContentTypeException,
+            IOException {
+        String ruleset = "rules:\n" +
+                "  tag-description:\n" +
+                "    given: \"$.tags[*]\"\n" +
+                "    severity: warn\n" +
+                "    then:\n" +
+                "      field: description\n" +
+                "      function: truthy\n";
+        String document = "openapi: 3.0.0\ninfo:\n  title: test\ntags:\n" +
+                "  - name: a\n  - name: b\n    description: tag b\n  - name: c\n";
+        ValidationOptions validationOptions = ValidationOptions.defaults();
+        CompiledRuleset compiledRuleset = Validator.compileRuleset(ruleset, validationOptions);
+        String expected = Validator.validateDocument(document, compiledRuleset, validationOptions);
+
+        List<DocumentValidationResult> violations = new ArrayList<>();
+        Validator.validateDocument(document, compiledRuleset, validationOptions, violations::add);
+        assertEquals(2, violations.size());
+        assertEquals("tag-description", violations.get(0).ruleName);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (DocumentValidationResultWriter writer = new DocumentValidationResultWriter(output)) {
+            Validator.validateDocument(document, compiledRuleset, validationOptions, writer);
+        }
+        assertEquals(expected, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void passedResultsAreOnlyReportedWhenCollected() throws InvalidRulesetException,
+            InvalidContentTypeException {
+        String ruleset = "rules:\n" +
+                "  tag-description:\n" +
+                "    given: \"$.tags[*]\"\n" +
+                "    message: \"{{property}} is missing at {{path}}\"\n" +
+                "    then:\n" +
+                "      field: description\n" +
+                "      function: truthy\n";
+        String document = "openapi: 3.0.0\ninfo:\n  title: test\ntags:\n" +
+                "  - name: a\n  - name: b\n    description: tag b\n";
+        ValidationOptions validationOptions = ValidationOptions.defaults();
+        CompiledRuleset compiledRuleset = Validator.compileRuleset(ruleset, validationOptions);
+
+        List<LintResult> failures = new Document(document, validationOptions).lint(compiledRuleset.getRuleset());
+        assertEquals(1, failures.size());
+        assertFalse(failures.get(0).passed);
+        assertEquals("[tags][0][description]", failures.get(0).path);
+        assertEquals("description is missing at [tags][0][description]", failures.get(0).message);
+
+        validationOptions.setCollectPassedResults(true);
+        List<LintResult> results = new Document(document, validationOptions).lint(compiledRuleset.getRuleset());
+        assertEquals(2, results.size());
+        assertEquals(failures.get(0).message, results.get(0).message);
+        assertTrue(results.get(1).passed);
+        assertEquals("[tags][1][description]", results.get(1).path);
+        assertEquals(Validator.validateDocument(document, compiledRuleset, ValidationOptions.defaults()),
+                Validator.validateDocument(document, compiledRuleset, validationOptions));
+    }
+
+    @Test
+    public void violationLimitsStopLinting() throws InvalidRulesetException, InvalidContentTypeException {
+        String ruleset = "rules:\n" +
+                "  tag-description:\n" +
+                "    given: \"$.tags[*]\"\n" +
+                "    severity: warn\n" +
+                "    then:\n" +
+                "      field: description\n" +
+                "      function: truthy\n" +
+                "  info-contact:\n" +
+                "    given: \"$.info\"\n" +
+                "    severity: error\n" +
+                "    then:\n" +
+                "      field: contact\n" +
+                "      function: truthy\n" +
+                "  info-license:\n" +
+                "    given: \"$.info\"\n" +
+                "    then:\n" +
+                "      field: license\n" +
+                "      function: truthy\n";
+        StringBuilder document = new StringBuilder("openapi: 3.0.0\ninfo:\n  title: test\ntags:\n");
+        for (int i = 0; i < 200; i++) {
+            document.append("  - name: tag").append(i).append("\n");
+        }
+        ValidationOptions validationOptions = ValidationOptions.defaults();
+        CompiledRuleset compiledRuleset = Validator.compileRuleset(ruleset, validationOptions);
+        assertEquals(List.of(200, 1, 1), countViolations(document.toString(), compiledRuleset, validationOptions));
+
+        validationOptions.setMaxViolationsPerRule(5);
+        assertEquals(List.of(5, 1, 1), countViolations(document.toString(), compiledRuleset, validationOptions));
+
+        validationOptions.setMaxViolationsPerRule(null);
+        validationOptions.setMaxViolationsPerDocument(201);
+        assertEquals(List.of(200, 1, 0), countViolations(document.toString(), compiledRuleset, validationOptions));
+
+        validationOptions.setMaxViolationsPerDocument(null);
+        validationOptions.setStopOnFirstError(true);
+        assertEquals(List.of(200, 1, 0), countViolations(document.toString(), compiledRuleset, validationOptions));
+
+        // Parallel linting reports the same violations
+        validationOptions.setMaxViolationsPerRule(70);
+        validationOptions.setParallelism(4);
+        assertEquals(List.of(70, 1, 0), countViolations(document.toString(), compiledRuleset, validationOptions));
+        validationOptions.setMaxViolationsPerDocument(30);
+        assertEquals(List.of(30, 0, 0), countViolations(document.toString(), compiledRuleset, validationOptions));
+
+        assertThrows(IllegalArgumentException.class, () -> ValidationOptions.defaults().setMaxViolationsPerRule(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> ValidationOptions.defaults().setMaxViolationsPerDocument(0));
+    }
+
+    @Test
+    public void rulesBelowMinimumSeverityAreNotReported() throws InvalidRulesetException,
+            InvalidContentTypeException {
+        String ruleset = "rules:\n" +
+                "  info-contact:\n" +
+                "    given: \"$.info\"\n" +
+                "    severity: error\n" +
+                "    then:\n" +
+                "      field: contact\n" +
+                "      function: truthy\n" +
+                "  info-license:\n" +
+                "    given: \"$.info\"\n" +
+                "    severity: info\n" +
+                "    then:\n" +
+                "      field: license\n" +
+                "      function: truthy\n" +
+                "  info-description:\n" +
+                "    given: \"$.info\"\n" +
+                "    severity: \"off\"\n" +
+                "    then:\n" +
+                "      field: description\n" +
+                "      function: truthy\n";
+        String document = "openapi: 3.0.0\ninfo:\n  title: test\n";
+        List<String> ruleNames = List.of("info-contact", "info-license", "info-description");
+        ValidationOptions validationOptions = ValidationOptions.defaults();
+        assertEquals(List.of(1, 1, 0), countViolations(document, Validator.compileRuleset(ruleset, validationOptions),
+                validationOptions, ruleNames));
+
+        ValidationOptions errorOptions = ValidationOptions.defaults();
+        errorOptions.setMinimumSeverity(DiagnosticSeverity.ERROR);
+        CompiledRuleset errorRuleset = Validator.compileRuleset(ruleset, errorOptions);
+        assertNotSame(Validator.compileRuleset(ruleset, validationOptions), errorRuleset);
+        assertEquals(List.of(1, 0, 0), countViolations(document, errorRuleset, errorOptions, ruleNames));
+        assertEquals(DiagnosticSeverity.ERROR, errorRuleset.getMinimumSeverity());
+        assertThrows(IllegalArgumentException.class,
+                () -> ValidationOptions.defaults().setMinimumSeverity(DiagnosticSeverity.OFF));
+
+        // Violations below the minimum severity are not reported by a ruleset compiled with a lower one
+        assertEquals(List.of(1, 0, 0), countViolations(document, Validator.compileRuleset(ruleset, validationOptions),
+                errorOptions, ruleNames));
+        // A ruleset compiled without the rules below a severity cannot report them
+        assertThrows(IllegalArgumentException.class,
+                () -> Validator.validateDocument(document, errorRuleset, validationOptions));
+    }
+
+    @Test
+    public void lintProfileIsOnlyCollectedWhenEnabled() throws InvalidRulesetException, InvalidContentTypeException {
+        String ruleset = "rules:\n" +
+                "  tag-description:\n" +
+                "    given: \"$.tags[*]\"\n" +
+                "    then:\n" +
+                "      field: description\n" +
+                "      function: truthy\n" +
+                "  info-contact:\n" +
+                "    given: \"$.info\"\n" +
+                "    then:\n" +
+                "      field: contact\n" +
+                "      function: truthy\n";
+        StringBuilder document = new StringBuilder("openapi: 3.0.0\ninfo:\n  title: test\ntags:\n");
+        for (int i = 0; i < 200; i++) {
+            document.append("  - name: tag").append(i).append("\n");
+            if (i % 2 == 0) {
+                document.append("    description: tag ").append(i).append("\n");
+            }
+        }
+        ValidationOptions validationOptions = ValidationOptions.defaults();
+        CompiledRuleset compiledRuleset = Validator.compileRuleset(ruleset, validationOptions);
+        Document unprofiledDocument = new Document(document.toString(), validationOptions);
+        unprofiledDocument.lint(compiledRuleset.getRuleset());
+        assertNull(unprofiledDocument.getLintProfile());
+
+        validationOptions.setCollectLintProfile(true);
+        Document profiledDocument = new Document(document.toString(), validationOptions);
+        profiledDocument.lint(compiledRuleset.getRuleset());
+        LintProfile profile = profiledDocument.getLintProfile();
+        List<RuleProfile> ruleProfiles = profile.getRuleProfiles();
+        assertEquals(List.of("tag-description", "info-contact"),
+                ruleProfiles.stream().map(RuleProfile::getRuleName).collect(Collectors.toList()));
+        assertEquals(200, ruleProfiles.get(0).getMatchCount());
+        assertEquals(200, ruleProfiles.get(0).getTargetCount());
+        assertEquals(100, ruleProfiles.get(0).getViolationCount());
+        assertEquals(1, ruleProfiles.get(1).getMatchCount());
+        assertEquals(1, ruleProfiles.get(1).getTargetCount());
+        assertEquals(1, ruleProfiles.get(1).getViolationCount());
+        assertTrue(profile.getLintTimeNanos() >= profile.getTraversalTimeNanos());
+
+        // Only the violations that are reported are counted when linting in parallel
+        validationOptions.setParallelism(4);
+        validationOptions.setMaxViolationsPerRule(30);
+        List<LintProfile> consumedProfiles = new ArrayList<>();
+        Validator.validateDocument(document.toString(), compiledRuleset, validationOptions, new LintResultConsumer() {
+            @Override
+            public void accept(DocumentValidationResult result) {
+            }
+
+            @Override
+            public void acceptLintProfile(LintProfile lintProfile) {
+                consumedProfiles.add(lintProfile);
+            }
+        });
+        assertEquals(1, consumedProfiles.size());
+        assertEquals(200, consumedProfiles.get(0).getRuleProfiles().get(0).getMatchCount());
+        assertEquals(30, consumedProfiles.get(0).getRuleProfiles().get(0).getViolationCount());
+        assertEquals(1, consumedProfiles.get(0).getRuleProfiles().get(1).getViolationCount());
+    }
+
+    @Test
+    public void metricsAreReportedToTheRegistry() throws InvalidRulesetException, InvalidContentTypeException {
+        String ruleset = "rules:\n" +
+                "  tag-description:\n" +
+                "    given: \"$.tags[*]\"\n" +
+                "    severity: warn\n" +
+                "    then:\n" +
+                "      field: description\n" +
+                "      function: truthy\n" +
+                "  info-contact:\n" +
+                "    given: \"$.info\"\n" +
+                "    severity: error\n" +
+                "    then:\n" +
+                "      field: contact\n" +
+                "      function: truthy\n" +
+                "  metrics-test:\n" +
+                "    given: \"$.info\"\n" +
+                "    then:\n" +
+                "      field: title\n" +
+                "      function: truthy\n";
+        String document = "openapi: 3.0.0\ninfo:\n  title: test\ntags:\n" +
+                "  - name: a\n  - name: b\n    description: tag b\n  - name: c\n";
+        Map<String, Double> metrics = new ConcurrentHashMap<>();
+        ValidatorMetrics.setRegistry(new MetricsRegistry() {
+            @Override
+            public Counter counter(String name, String... tags) {
+                return amount -> metrics.merge(name + Arrays.toString(tags), (double) amount, Double::sum);
+            }
+
+            @Override
+            public Timer timer(String name, String... tags) {
+                return durationNanos -> metrics.merge(name + Arrays.toString(tags), 1.0, Double::sum);
+            }
+
+            @Override
+            public Histogram histogram(String name, String... tags) {
+                return value -> metrics.merge(name + Arrays.toString(tags), value, Double::sum);
+            }
+        });
+        try {
+            ValidationOptions validationOptions = ValidationOptions.defaults();
+            Validator.getRulesetCache().clear();
+            Validator.validateDocument(document, ruleset, validationOptions);
+            Validator.validateDocument(document, ruleset, validationOptions);
+        } finally {
+            ValidatorMetrics.setRegistry(null);
+        }
+        assertFalse(ValidatorMetrics.isEnabled());
+
+        assertEquals(2.0, getMetric(metrics, ValidatorMetrics.DOCUMENTS_LINTED));
+        assertEquals(2.0, getMetric(metrics, ValidatorMetrics.DOCUMENT_PARSE_TIME));
+        assertEquals(2.0, getMetric(metrics, ValidatorMetrics.DOCUMENT_LINT_TIME));
+        assertEquals(6.0, getMetric(metrics, ValidatorMetrics.DOCUMENT_VIOLATIONS));
+        assertEquals(4.0, getMetric(metrics, ValidatorMetrics.VIOLATIONS, "severity", "warn"));
+        assertEquals(2.0, getMetric(metrics, ValidatorMetrics.VIOLATIONS, "severity", "error"));
+        assertEquals(4.0, getMetric(metrics, ValidatorMetrics.RULE_RESULTS,
+                "rule", "tag-description", "outcome", "failed"));
+        assertEquals(2.0, getMetric(metrics, ValidatorMetrics.RULE_RESULTS,
+                "rule", "info-contact", "outcome", "failed"));
+        assertEquals(0, getMetric(metrics, ValidatorMetrics.RULE_RESULTS,
+                "rule", "metrics-test", "outcome", "failed"));
+        assertEquals(1.0, getMetric(metrics, ValidatorMetrics.RULESET_CACHE_REQUESTS, "outcome", "miss"));
+        assertEquals(1.0, getMetric(metrics, ValidatorMetrics.RULESET_CACHE_REQUESTS, "outcome", "hit"));
+        assertEquals(1.0, getMetric(metrics, ValidatorMetrics.RULESET_COMPILE_TIME));
+        // Functions are created when the ruleset is validated and when it is built
+        assertTrue(getMetric(metrics, ValidatorMetrics.FUNCTIONS_CREATED,
+                "function", "truthy", "outcome", "success") >= 3);
+    }
+
+    private static double getMetric(Map<String, Double> metrics, String name, String... tags) {
+        return metrics.getOrDefault(name + Arrays.toString(tags), 0.0);
+    }
+
+    private static List<Integer> countViolations(String document, CompiledRuleset compiledRuleset,
+            ValidationOptions validationOptions) throws InvalidRulesetException, InvalidContentTypeException {
+        return countViolations(document, compiledRuleset, validationOptions,
+                List.of("tag-description", "info-contact", "info-license"));
+    }
+
+    private static List<Integer> countViolations(String document, CompiledRuleset compiledRuleset,
+            ValidationOptions validationOptions, List<String> ruleNames) throws InvalidRulesetException,
+            InvalidContentTypeException {
+        List<Integer> counts = new ArrayList<>(Collections.nCopies(ruleNames.size(), 0));
+        Validator.validateDocument(document, compiledRuleset, validationOptions, violation -> {
+            int index = ruleNames.indexOf(violation.ruleName);
+            counts.set(index, counts.get(index) + 1);
+        });
+        return counts;
+    }
+
+    @Test
+    public void invalidRulesetIsRejectedWhenCompiled() {
+        String ruleset = "rules:\n  no-given:\n    then:\n      function: truthy\n";
+        assertThrows(InvalidRulesetException.class,
+                () -> Validator.compileRuleset(ruleset, ValidationOptions.defaults()));
+        assertThrows(InvalidContentTypeException.class,
+                () -> Validator.compileRuleset("- not a map", ValidationOptions.defaults()));
+    }
+
+    @Test
+    public void invalidFieldIsRejectedWhenCompiled() {
+        String ruleset = "rules:\n" +
+                "  info-contact:\n" +
+                "    given: \"$.info\"\n" +
+                "    then:\n" +
+                "      field: \"contact[\"\n" +
+                "      function: truthy\n";
+        String document = "openapi: 3.0.0\ninfo:\n  title: test\n";
+        InvalidRulesetException exception = assertThrows(InvalidRulesetException.class,
+                () -> Validator.compileRuleset(ruleset, ValidationOptions.defaults()));
+        assertTrue(exception.getMessage().contains("contact["));
+        assertThrows(InvalidRulesetException.class,
+                () -> Validator.validateDocument(document, ruleset, ValidationOptions.defaults()));
+    }
+
     private static List<String> readFilesFromPackage(String packageName) throws IOException, URISyntaxException {
         List<String> fileContents = new ArrayList<>();
 